@@ -0,0 +1,114 @@
+package com.example.backend.bench;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application against a private in-memory H2 database and seeds it with synthetic rows.
+ */
+public final class BenchmarkContext {
+
+    private static final int BATCH = 1_000;
+
+    private BenchmarkContext() {}
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        List<String> props = new ArrayList<>(List.of(
+                "ADMIN_USERNAME=bench",
+                "ADMIN_PASSWORD=bench",
+                "server.port=0",
+                "spring.h2.console.enabled=false",
+                "app.rate-limit.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "logging.level.root=WARN"
+        ));
+        props.addAll(List.of(properties));
+
+        // Passed as command-line arguments so they override application.yml and profile files
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .run(props.stream().map(p -> "--" + p).toArray(String[]::new));
+    }
+
+    /**
+     * Adds {@code rows} rows to each of the four tables and lets the in-memory caches pick them up.
+     */
+    public static void seed(ConfigurableApplicationContext ctx, int rows) {
+        JdbcTemplate jdbc = ctx.getBean(JdbcTemplate.class);
+        Instant start = Instant.parse("2020-01-01T00:00:00Z");
+
+        batch(jdbc, rows, """
+                INSERT INTO projects (title, slug, description, image_url, live_url, github_url, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", i -> new Object[]{
+                "Bench project " + i,
+                "bench-project-" + i,
+                "Synthetic project number " + i + " used to measure list, search and serialization cost.",
+                "https://images.example.com/projects/" + i + ".png",
+                "https://bench-" + i + ".example.com",
+                "https://github.com/example/bench-" + i,
+                Timestamp.from(start.plusSeconds(i))
+        });
+
+        batch(jdbc, rows, """
+                INSERT INTO experience (company, position, start_year, end_year, is_present, summary, sort_order)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", i -> new Object[]{
+                "Company " + i,
+                "Position " + i,
+                1990 + i % 30,
+                i % 10 == 0 ? null : 1995 + i % 30,
+                i % 10 == 0,
+                "Summary of experience " + i,
+                i
+        });
+
+        batch(jdbc, rows, """
+                INSERT INTO education (level, school, program, status, completed_year, sort_order)
+                VALUES (?, ?, ?, ?, ?, ?)""", i -> new Object[]{
+                "University",
+                "School " + i % 50,
+                "Program " + i,
+                i % 2 == 0 ? "COMPLETED" : "IN_PROGRESS",
+                2000 + i % 25,
+                i
+        });
+
+        batch(jdbc, rows, """
+                INSERT INTO skills (category, name, sort_order)
+                VALUES (?, ?, ?)""", i -> new Object[]{
+                "Category " + i % 5,
+                "Skill " + i,
+                i
+        });
+
+        for (ContentType type : ContentType.values()) {
+            ctx.publishEvent(new ContentChangedEvent(type, null));
+        }
+    }
+
+    private interface Row {
+        Object[] values(int i);
+    }
+
+    private static void batch(JdbcTemplate jdbc, int rows, String sql, Row row) {
+        List<Object[]> args = new ArrayList<>(BATCH);
+        for (int i = 0; i < rows; i++) {
+            args.add(row.values(i));
+            if (args.size() == BATCH) {
+                jdbc.batchUpdate(sql, args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            jdbc.batchUpdate(sql, args);
+        }
+    }
+}
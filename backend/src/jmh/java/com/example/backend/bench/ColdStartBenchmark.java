@@ -0,0 +1,58 @@
+package com.example.backend.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to boot the application with the "persistent" profile against an already initialized
+ * file database, at several row counts. The init scripts are skipped and the in-memory indexes fill
+ * on first use or in the background once the application is ready, so nothing in the boot path
+ * reads the rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ColdStartBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int rows;
+
+    private Path dataDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("portfolio-cold-start");
+        try (ConfigurableApplicationContext ctx = start()) {
+            BenchmarkContext.seed(ctx, rows);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void boot() {
+        start().close();
+    }
+
+    private ConfigurableApplicationContext start() {
+        return BenchmarkContext.start(
+                "spring.profiles.active=persistent",
+                "spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("portfolio") + ";CACHE_SIZE=65536;WRITE_DELAY=500"
+        );
+    }
+}
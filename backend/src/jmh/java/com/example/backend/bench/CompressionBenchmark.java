@@ -0,0 +1,59 @@
+package com.example.backend.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/projects over HTTP with and without Accept-Encoding: gzip. Latency is the benchmark
+ * score; the response size of each configuration is printed once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private ConfigurableApplicationContext ctx;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, rows);
+
+        String port = ctx.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/projects"))
+                .header("Accept-Encoding", encoding)
+                .GET()
+                .build();
+
+        int bytes = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+        System.out.printf("%nGET /api/projects rows=%d encoding=%s: %d bytes%n", rows, encoding, bytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public byte[] list() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
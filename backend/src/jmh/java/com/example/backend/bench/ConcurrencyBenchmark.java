@@ -0,0 +1,62 @@
+package com.example.backend.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test: 256 concurrent clients against a DB-backed endpoint, with the Tomcat pool capped
+ * at 32 platform threads, once with virtual=false and once with virtual=true.
+ *
+ * <p>The second-level and query caches are turned off, otherwise /api/experiences would be
+ * answered from memory and no request would block on JDBC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class ConcurrencyBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtual;
+
+    private ConfigurableApplicationContext ctx;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkContext.start(
+                "server.tomcat.threads.max=32",
+                "spring.threads.virtual.enabled=" + virtual,
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "app.jdbc.max-concurrent-connections=10",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+        );
+        BenchmarkContext.seed(ctx, 1_000);
+
+        String port = ctx.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newHttpClient();
+        // With the caches off, every request runs the experience query
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/experiences")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public int experiences() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backend.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First paint of a project detail page: the server-rendered HTML from /projects/{slug} against the
+ * JSON the client app fetches from /api/projects/{slug}, which it can only request once its own
+ * bundle has loaded. The score is the whole request, not time to first byte; payload sizes are
+ * printed once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectPageBenchmark {
+
+    @Param({"ssr", "api"})
+    public String flow;
+
+    private ConfigurableApplicationContext ctx;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, 1000);
+
+        String port = ctx.getEnvironment().getProperty("local.server.port");
+        String path = flow.equals("ssr") ? "/projects/bench-project-500" : "/api/projects/bench-project-500";
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        int bytes = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+        System.out.printf("%nGET %s (gzip): %d bytes%n", path, bytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public byte[] get() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.bench;
+
+import com.example.backend.education.business.EducationService;
+import com.example.backend.experience.business.ExperienceService;
+import com.example.backend.project.business.ProjectService;
+import com.example.backend.skill.business.SkillService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of each public response list, using the application's own ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext ctx;
+    private ObjectMapper mapper;
+
+    private List<?> projects;
+    private List<?> experiences;
+    private List<?> educations;
+    private List<?> skills;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, rows);
+        mapper = ctx.getBean(ObjectMapper.class);
+
+        projects = ctx.getBean(ProjectService.class).getProjects(null);
+        experiences = ctx.getBean(ExperienceService.class).getPublicExperience();
+        educations = ctx.getBean(EducationService.class).listPublic();
+        skills = ctx.getBean(SkillService.class).list();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public byte[] projects() {
+        return mapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] experiences() {
+        return mapper.writeValueAsBytes(experiences);
+    }
+
+    @Benchmark
+    public byte[] educations() {
+        return mapper.writeValueAsBytes(educations);
+    }
+
+    @Benchmark
+    public byte[] skills() {
+        return mapper.writeValueAsBytes(skills);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.experience.business;
+
+import com.example.backend.experience.data.Experience;
+import com.example.backend.experience.presentation.ExperienceResponseDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mapping cost per request: the previous builder-per-row mapping against the generated mapper.
+ * Compare gc.alloc.rate.norm for bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExperienceMappingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private List<Experience> experiences;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        experiences = IntStream.range(0, rows)
+                .mapToObj(i -> new Experience((long) i, "Company " + i, "Position " + i,
+                        2000 + i % 20, i % 10 == 0 ? null : 2005 + i % 20, i % 10 == 0, "Summary " + i, i))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ExperienceResponseDTO> builder() {
+        return experiences.stream()
+                .map(e -> new Builder()
+                        .id(e.getId())
+                        .company(e.getCompany())
+                        .position(e.getPosition())
+                        .startYear(e.getStartYear())
+                        .endYear(e.getEndYear())
+                        .isPresent(e.getIsPresent())
+                        .summary(e.getSummary())
+                        .sortOrder(e.getSortOrder())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<ExperienceResponseDTO> generated() {
+        return ExperienceMapper.INSTANCE.toDtos(experiences);
+    }
+
+    // Same shape as the Lombok @Builder the response DTO used to have
+    private static final class Builder {
+        private Long id;
+        private String company;
+        private String position;
+        private Integer startYear;
+        private Integer endYear;
+        private Boolean isPresent;
+        private String summary;
+        private Integer sortOrder;
+
+        Builder id(Long id) { this.id = id; return this; }
+        Builder company(String company) { this.company = company; return this; }
+        Builder position(String position) { this.position = position; return this; }
+        Builder startYear(Integer startYear) { this.startYear = startYear; return this; }
+        Builder endYear(Integer endYear) { this.endYear = endYear; return this; }
+        Builder isPresent(Boolean isPresent) { this.isPresent = isPresent; return this; }
+        Builder summary(String summary) { this.summary = summary; return this; }
+        Builder sortOrder(Integer sortOrder) { this.sortOrder = sortOrder; return this; }
+
+        ExperienceResponseDTO build() {
+            return new ExperienceResponseDTO(id, company, position, startYear, endYear, isPresent, summary, sortOrder);
+        }
+    }
+}
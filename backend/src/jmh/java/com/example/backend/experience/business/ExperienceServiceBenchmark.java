@@ -0,0 +1,46 @@
+package com.example.backend.experience.business;
+
+import com.example.backend.bench.BenchmarkContext;
+import com.example.backend.experience.presentation.ExperienceResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExperienceServiceBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext ctx;
+    private ExperienceService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, rows);
+        service = ctx.getBean(ExperienceService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public List<ExperienceResponseDTO> publicOrder() {
+        return service.getPublicExperience();
+    }
+
+    @Benchmark
+    public List<ExperienceResponseDTO> adminOrder() {
+        return service.getAdminExperience();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.backend.project.business;
+
+import com.example.backend.bench.BenchmarkContext;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.presentation.ProjectFacetsDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Skill 1 and Skill 2 in Category 1" with facet counts: bitmap intersections against a scan of
+ * every project's skill ids. Each project is linked to about a quarter of 20 skills.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectFacetBenchmark {
+
+    private static final List<String> SKILLS = List.of("Skill 1", "Skill 2");
+    private static final String CATEGORY = "Category 1";
+
+    @Param({"1000", "10000", "50000"})
+    public int rows;
+
+    private ConfigurableApplicationContext ctx;
+    private ProjectFacetIndex facetIndex;
+    private ProjectReadModel readModel;
+    private List<SkillResponseDTO> skills;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, rows);
+        ctx.getBean(JdbcTemplate.class).update("""
+                INSERT INTO project_skills (project_id, skill_id)
+                SELECT p.id, s.id FROM projects p JOIN skills s ON s.name LIKE 'Skill %' AND s.sort_order < 20
+                WHERE p.slug LIKE 'bench-project-%'
+                  AND MOD(CAST(SUBSTRING(p.slug, 15) AS INT) + s.sort_order, 4) = 0""");
+        ctx.publishEvent(new ContentChangedEvent(ContentType.PROJECTS, null));
+
+        facetIndex = ctx.getBean(ProjectFacetIndex.class);
+        readModel = ctx.getBean(ProjectReadModel.class);
+        skills = ctx.getBean(SkillService.class).list();
+        facetIndex.filter(SKILLS, CATEGORY, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public ProjectFacetsDTO bitmap() {
+        return facetIndex.filter(SKILLS, CATEGORY, null);
+    }
+
+    @Benchmark
+    public Map<Long, Integer> scan() {
+        Set<Long> required = new HashSet<>();
+        Set<Long> inCategory = new HashSet<>();
+        for (SkillResponseDTO s : skills) {
+            if (SKILLS.contains(s.name())) required.add(s.id());
+            if (s.category().equals(CATEGORY)) inCategory.add(s.id());
+        }
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (ProjectResponseDTO p : readModel.current().projects()) {
+            if (!p.skillIds().containsAll(required) || p.skillIds().stream().noneMatch(inCategory::contains)) continue;
+            for (Long id : p.skillIds()) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+}
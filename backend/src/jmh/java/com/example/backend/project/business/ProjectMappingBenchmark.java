@@ -0,0 +1,54 @@
+package com.example.backend.project.business;
+
+import com.example.backend.project.data.Project;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.data.Skill;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mapping cost per request: the previous stream-based mapping against the generated mapper
+ * filling a presized list. Compare gc.alloc.rate.norm for bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectMappingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private List<Project> projects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant now = Instant.now();
+        projects = IntStream.range(0, rows)
+                .mapToObj(i -> new Project((long) i, "Project " + i, "project-" + i, "Description " + i,
+                        "https://img/" + i, "https://live/" + i, "https://github/" + i, now,
+                        Set.of(new Skill((long) i % 20, "Category", "Skill " + i % 20, i % 20))))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> streamed() {
+        return projects.stream()
+                .map(p -> new ProjectResponseDTO(p.getId(), p.getTitle(), p.getSlug(), p.getDescription(),
+                        p.getImageUrl(), p.getLiveUrl(), p.getGithubUrl(), p.getCreatedAt(),
+                        p.getSkills().stream().map(Skill::getId).sorted().toList()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> generated() {
+        return ProjectMapper.INSTANCE.toDtos(projects);
+    }
+}
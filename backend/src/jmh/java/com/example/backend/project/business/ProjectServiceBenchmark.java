@@ -0,0 +1,51 @@
+package com.example.backend.project.business;
+
+import com.example.backend.bench.BenchmarkContext;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectServiceBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext ctx;
+    private ProjectService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, rows);
+        service = ctx.getBean(ProjectService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> list() {
+        return service.getProjects(null);
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> searchPrefix() {
+        return service.getProjects("bench proj");
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> searchSelective() {
+        return service.getProjects("project 42");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.suggest.business;
+
+import com.example.backend.bench.BenchmarkContext;
+import com.example.backend.project.business.ProjectReadModel;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.suggest.presentation.SuggestionDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete of an exact and a misspelled prefix from the trie, against a substring scan of
+ * every title in the read model (which cannot tolerate the typo at all).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int rows;
+
+    private ConfigurableApplicationContext ctx;
+    private SuggestionIndex index;
+    private ProjectReadModel readModel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkContext.start();
+        BenchmarkContext.seed(ctx, rows);
+        index = ctx.getBean(SuggestionIndex.class);
+        // Requests never fill the index; do not measure empty results if the warm-up is still running
+        index.load();
+        readModel = ctx.getBean(ProjectReadModel.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public List<SuggestionDTO> exact() {
+        return index.suggest("project 42", 8);
+    }
+
+    @Benchmark
+    public List<SuggestionDTO> typo() {
+        return index.suggest("projcet 42", 8);
+    }
+
+    @Benchmark
+    public List<String> scan() {
+        List<String> titles = new ArrayList<>();
+        for (ProjectResponseDTO p : readModel.current().projects()) {
+            if (p.title().toLowerCase(Locale.ROOT).contains("project 42")) {
+                titles.add(p.title());
+                if (titles.size() == 8) break;
+            }
+        }
+        return titles;
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.backend.admin;
 
+import com.example.backend.security.AdminTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,13 +11,20 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
+@RequiredArgsConstructor
 public class AdminAuthController {
 
+    private final AdminTokenService tokens;
+
+    // Only Basic credentials are accepted here; later admin calls send "Authorization: Bearer <token>"
     @GetMapping("/auth-check")
-    public Map<String, Object> authCheck() {
+    public Map<String, Object> authCheck(Authentication authentication) {
+        AdminTokenService.IssuedToken issued = tokens.issue(authentication.getName());
         return Map.of(
                 "ok", true,
-                "role", "ADMIN"
+                "role", "ADMIN",
+                "token", issued.token(),
+                "expiresAt", issued.expiresAt()
         );
     }
 }
@@ -1,7 +1,10 @@
 package com.example.backend.admin;
 
+import com.example.backend.batch.BatchResultDTO;
 import com.example.backend.education.business.EducationService;
-import com.example.backend.education.data.Education;
+import com.example.backend.education.presentation.EducationRequestDTO;
+import com.example.backend.education.presentation.EducationResponseDTO;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,18 +18,23 @@ public class AdminEducationController {
     private final EducationService service;
 
     @GetMapping
-    public List<Education> list() {
+    public List<EducationResponseDTO> list() {
         return service.listPublic();
     }
 
     @PostMapping
-    public Education create(@RequestBody Education e) {
-        return service.create(e);
+    public EducationResponseDTO create(@Valid @RequestBody EducationRequestDTO req) {
+        return service.create(req);
+    }
+
+    @PostMapping("/batch")
+    public BatchResultDTO createOrUpdateBatch(@RequestBody List<EducationRequestDTO> items) {
+        return service.saveBatch(items);
     }
 
     @PutMapping("/{id}")
-    public Education update(@PathVariable Long id, @RequestBody Education e) {
-        return service.update(id, e);
+    public EducationResponseDTO update(@PathVariable Long id, @Valid @RequestBody EducationRequestDTO req) {
+        return service.update(id, req);
     }
 
     @DeleteMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.example.backend.admin;
 
+import com.example.backend.batch.BatchResultDTO;
 import com.example.backend.experience.business.ExperienceService;
 import com.example.backend.experience.presentation.ExperienceRequestDTO;
 import com.example.backend.experience.presentation.ExperienceResponseDTO;
@@ -28,6 +29,13 @@ public class AdminExperienceController {
         return service.create(request);
     }
 
+    // Experiences have no unique key in the schema, so a batch only inserts; the import matches them
+    // on (company, position, start year) instead
+    @PostMapping("/batch")
+    public BatchResultDTO createBatch(@RequestBody List<ExperienceRequestDTO> requests) {
+        return service.createBatch(requests);
+    }
+
     @PutMapping("/{id}")
     public ExperienceResponseDTO update(@PathVariable Long id, @Valid @RequestBody ExperienceRequestDTO request) {
         return service.update(id, request);
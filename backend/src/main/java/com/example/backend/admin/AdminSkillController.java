@@ -1,7 +1,10 @@
 package com.example.backend.admin;
 
+import com.example.backend.batch.BatchResultDTO;
 import com.example.backend.skill.business.SkillService;
-import com.example.backend.skill.data.Skill;
+import com.example.backend.skill.presentation.SkillRequestDTO;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,18 +18,23 @@ public class AdminSkillController {
     private final SkillService service;
 
     @GetMapping
-    public List<Skill> list() {
+    public List<SkillResponseDTO> list() {
         return service.list();
     }
 
     @PostMapping
-    public Skill create(@RequestBody Skill s) {
-        return service.create(s);
+    public SkillResponseDTO create(@Valid @RequestBody SkillRequestDTO req) {
+        return service.create(req);
+    }
+
+    @PostMapping("/batch")
+    public BatchResultDTO createOrUpdateBatch(@RequestBody List<SkillRequestDTO> items) {
+        return service.saveBatch(items);
     }
 
     @PutMapping("/{id}")
-    public Skill update(@PathVariable Long id, @RequestBody Skill s) {
-        return service.update(id, s);
+    public SkillResponseDTO update(@PathVariable Long id, @Valid @RequestBody SkillRequestDTO req) {
+        return service.update(id, req);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,36 @@
+package com.example.backend.admin;
+
+import com.example.backend.transfer.business.PortfolioTransferService;
+import com.example.backend.transfer.presentation.ImportResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminTransferController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PortfolioTransferService service;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"portfolio.ndjson\"")
+                .body(service::exportTo);
+    }
+
+    @PostMapping("/import")
+    public ImportResultDTO importData(InputStream body) throws IOException {
+        return service.importFrom(body);
+    }
+}
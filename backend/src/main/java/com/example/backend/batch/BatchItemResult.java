@@ -0,0 +1,22 @@
+package com.example.backend.batch;
+
+public record BatchItemResult(int index, Status status, Long id, String message) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        REJECTED,
+    }
+
+    public static BatchItemResult created(int index, Long id) {
+        return new BatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static BatchItemResult updated(int index, Long id) {
+        return new BatchItemResult(index, Status.UPDATED, id, null);
+    }
+
+    public static BatchItemResult rejected(int index, String message) {
+        return new BatchItemResult(index, Status.REJECTED, null, message);
+    }
+}
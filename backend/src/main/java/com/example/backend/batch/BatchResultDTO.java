@@ -0,0 +1,33 @@
+package com.example.backend.batch;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch write: one result per submitted item, in submission order.
+ * Rejected items are reported but do not prevent the valid ones from being written.
+ */
+public record BatchResultDTO(int created, int updated, int rejected, List<BatchItemResult> items) {
+
+    public static final int MAX_ITEMS = 5_000;
+
+    public static void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("Batch is limited to " + MAX_ITEMS + " items");
+        }
+    }
+
+    public static BatchResultDTO of(List<BatchItemResult> items) {
+        int created = 0, updated = 0, rejected = 0;
+        for (BatchItemResult item : items) {
+            switch (item.status()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case REJECTED -> rejected++;
+            }
+        }
+        return new BatchResultDTO(created, updated, rejected, items);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.backend.batch;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class Violations {
+
+    private Violations() {}
+
+    /**
+     * Bean Validation errors for one batch item as a single message, or null when it is valid.
+     */
+    public static <T> String describe(Validator validator, T item) {
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (violations.isEmpty()) return null;
+
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.joining(", "));
+    }
+}
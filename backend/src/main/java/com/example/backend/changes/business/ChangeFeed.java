@@ -0,0 +1,276 @@
+package com.example.backend.changes.business;
+
+import com.example.backend.changes.presentation.ChangeEventDTO;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentVersions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of committed content changes to Server-Sent Event subscribers. Connections are async
+ * servlet requests, so idle subscribers hold no thread. Each subscriber has its own queue, written
+ * by a sender thread only while it has events; one that falls {@value #QUEUE_LIMIT} events behind
+ * or blocks a write for longer than {@link #SEND_TIMEOUT} is disconnected, so a slow client never
+ * delays the others. The last {@value #BUFFER_SIZE} events are kept for Last-Event-ID resume, which
+ * is also how a disconnected laggard catches up.
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    static final int BUFFER_SIZE = 1024;
+    static final int QUEUE_LIMIT = 256;
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration HEARTBEAT = Duration.ofSeconds(25);
+    private static final Duration RECONNECT = Duration.ofSeconds(5);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    private record Entry(long seq, ChangeEventDTO event) {}
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        // Guarded by this; events are rendered once and shared by every subscriber's queue
+        final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        boolean draining;
+        boolean closed;
+        // System.nanoTime() when the current write started, 0 between writes
+        volatile long sendingSince;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        boolean stalled() {
+            long since = sendingSince;
+            return since != 0 && System.nanoTime() - since > SEND_TIMEOUT.toNanos();
+        }
+    }
+
+    private final ContentVersions versions;
+
+    // Event ids are "<epoch>-<seq>"; an id from an earlier boot cannot be resumed
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Entry[] ring = new Entry[BUFFER_SIZE];
+    private long nextSeq = 1;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(daemon("change-feed"));
+    // A blocked write holds its thread until the servlet container's write timeout, the others keep going
+    private final ExecutorService senders = Executors.newCachedThreadPool(daemon("change-feed-sender"));
+
+    public ChangeFeed(ContentVersions versions, MeterRegistry registry) {
+        this.versions = versions;
+        Gauge.builder("changes.subscribers", subscribers, Set::size).register(registry);
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, HEARTBEAT.toSeconds(), HEARTBEAT.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Registers a subscriber. When {@code lastEventId} is given, the events after it are replayed
+     * first; if they are no longer buffered a "reset" event tells the client to refetch everything.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> markClosed(subscriber));
+        emitter.onTimeout(() -> markClosed(subscriber));
+        emitter.onError(e -> markClosed(subscriber));
+
+        // Replay and registration happen under the lock that orders new events, so nothing is missed or doubled
+        synchronized (ring) {
+            Long resumeAfter = parseSeq(lastEventId);
+            boolean reset = false;
+            List<Entry> missed = new ArrayList<>();
+            if (lastEventId != null) {
+                long oldest = Math.max(1, nextSeq - BUFFER_SIZE);
+                if (resumeAfter == null || resumeAfter < oldest - 1 || resumeAfter >= nextSeq) {
+                    reset = true;
+                } else {
+                    for (long seq = resumeAfter + 1; seq < nextSeq; seq++) {
+                        missed.add(ring[(int) (seq % BUFFER_SIZE)]);
+                    }
+                }
+            }
+
+            // Flushes the response headers right away and tells EventSource how soon to reconnect
+            enqueue(subscriber, render(SseEmitter.event().reconnectTime(RECONNECT.toMillis()).comment("connected")), true);
+            if (reset) {
+                enqueue(subscriber, render(SseEmitter.event().id(id(nextSeq - 1)).name("reset").data("{}", MediaType.APPLICATION_JSON)), true);
+            }
+            // The replay may be longer than the queue limit, which only applies to live events
+            for (Entry entry : missed) {
+                enqueue(subscriber, event(entry), true);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    // Runs after ContentVersions, so the event carries the version the endpoints already serve
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        ChangeEventDTO change = new ChangeEventDTO(event.type(), event.id(), versions.version(event.type()));
+
+        synchronized (ring) {
+            Entry entry = new Entry(nextSeq++, change);
+            ring[(int) (entry.seq() % BUFFER_SIZE)] = entry;
+            Set<DataWithMediaType> sse = event(entry);
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, sse, false);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void heartbeat() {
+        Set<DataWithMediaType> ping = render(SseEmitter.event().comment("ping"));
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.stalled()) {
+                close(subscriber, null);
+                continue;
+            }
+            // A subscriber with queued events gets bytes on the wire anyway
+            synchronized (subscriber) {
+                if (!subscriber.queue.isEmpty()) continue;
+            }
+            enqueue(subscriber, ping, false);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event, boolean replay) {
+        synchronized (subscriber) {
+            if (subscriber.closed) return;
+            if (!replay && (subscriber.queue.size() >= QUEUE_LIMIT || subscriber.stalled())) {
+                log.debug("Dropping change feed subscriber that fell {} events behind", subscriber.queue.size());
+                close(subscriber, null);
+                return;
+            }
+            subscriber.queue.add(event);
+            if (subscriber.draining) return;
+            subscriber.draining = true;
+        }
+        senders.execute(() -> drain(subscriber));
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<DataWithMediaType> event;
+            synchronized (subscriber) {
+                event = subscriber.closed ? null : subscriber.queue.poll();
+                if (event == null) {
+                    subscriber.draining = false;
+                    return;
+                }
+                subscriber.sendingSince = System.nanoTime();
+            }
+            try {
+                subscriber.emitter.send(event);
+            } catch (IOException e) {
+                // Client went away; completing releases the async request
+                log.debug("Dropped change feed subscriber", e);
+                close(subscriber, e);
+                return;
+            } catch (IllegalStateException e) {
+                // Already completed by a timeout racing this send
+                markClosed(subscriber);
+                return;
+            } catch (RuntimeException e) {
+                // A failing converter must not leave the subscriber marked as draining forever
+                log.warn("Could not send change feed event", e);
+                close(subscriber, e);
+                return;
+            } finally {
+                subscriber.sendingSince = 0;
+            }
+        }
+    }
+
+    private boolean markClosed(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        synchronized (subscriber) {
+            if (subscriber.closed) return false;
+            subscriber.closed = true;
+            subscriber.queue.clear();
+            return true;
+        }
+    }
+
+    // Completing waits for a write in progress, so it runs on a sender thread instead of the caller's;
+    // the client reconnects and resumes from its Last-Event-ID
+    private void close(Subscriber subscriber, Throwable error) {
+        if (!markClosed(subscriber)) return;
+        senders.execute(() -> {
+            try {
+                if (error != null) subscriber.emitter.completeWithError(error);
+                else subscriber.emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("Could not complete change feed subscriber", e);
+            }
+        });
+    }
+
+    private Set<DataWithMediaType> event(Entry entry) {
+        return render(SseEmitter.event()
+                .id(id(entry.seq()))
+                .name("change")
+                .data(entry.event(), MediaType.APPLICATION_JSON));
+    }
+
+    // build() appends the terminating newline to the builder each time it is called, so a builder
+    // must not be sent twice; its result is only read afterwards and can go to any number of threads
+    private static Set<DataWithMediaType> render(SseEmitter.SseEventBuilder builder) {
+        return Collections.unmodifiableSet(builder.build());
+    }
+
+    private String id(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    private Long parseSeq(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) return null;
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
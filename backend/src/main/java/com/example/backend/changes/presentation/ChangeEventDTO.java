@@ -0,0 +1,12 @@
+package com.example.backend.changes.presentation;
+
+import com.example.backend.content.ContentType;
+
+/**
+ * One committed write. A null id means many rows of the type changed; refetch the whole list.
+ */
+public record ChangeEventDTO(
+        ContentType type,
+        Long id,
+        long version
+) {}
@@ -0,0 +1,38 @@
+package com.example.backend.content;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+
+/**
+ * Bulk changes (null id) are written with plain JDBC, and remote changes by another instance, so
+ * Hibernate's second-level cache here has not seen them. Clears the entity and list regions of the
+ * changed type before anything reloads from them.
+ */
+@Component
+public class BulkWriteCacheEvictor {
+
+    private final SessionFactory sessionFactory;
+
+    public BulkWriteCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Order(-1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.id() != null && !event.remote()) return;
+
+        // Regions are named after the content type, see ehcache.xml
+        String region = event.type().name().toLowerCase(Locale.ROOT);
+        sessionFactory.getCache().evictRegion(region);
+        sessionFactory.getCache().evictRegion(region + "-lists");
+        if (event.type() == ContentType.PROJECTS) {
+            sessionFactory.getCache().evictRegion(region + "-skills");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.content;
+
+/**
+ * Published by the services whenever a row of the given type is created, updated or deleted.
+ * {@code id} is null when several rows changed at once. {@code remote} marks changes committed by
+ * another instance and relayed by the invalidation bus.
+ */
+public record ContentChangedEvent(ContentType type, Long id, boolean remote) {
+
+    public ContentChangedEvent(ContentType type, Long id) {
+        this(type, id, false);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.backend.content;
+
+public enum ContentType {
+    PROJECTS,
+    EXPERIENCES,
+    EDUCATIONS,
+    SKILLS,
+}
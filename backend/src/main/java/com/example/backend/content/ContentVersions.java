@@ -0,0 +1,67 @@
+package com.example.backend.content;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Per-type content version, bumped after every committed write. Public read endpoints derive
+ * their ETag / Last-Modified from it so unchanged resources answer 304 without loading anything.
+ */
+@Component
+public class ContentVersions {
+
+    private record Version(long counter, long lastModified) {}
+
+    // Versions restart at 0 on every boot, the boot time keeps ETags from colliding across restarts
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<ContentType, AtomicReference<Version>> versions = new EnumMap<>(ContentType.class);
+
+    public ContentVersions() {
+        long now = System.currentTimeMillis();
+        for (ContentType type : ContentType.values()) {
+            versions.put(type, new AtomicReference<>(new Version(0, now)));
+        }
+    }
+
+    public long version(ContentType type) {
+        return versions.get(type).get().counter();
+    }
+
+    public String etag(ContentType... types) {
+        return Arrays.stream(types)
+                .map(type -> Long.toString(version(type)))
+                .collect(Collectors.joining("-", epoch + "-", ""));
+    }
+
+    public long lastModified(ContentType... types) {
+        return Arrays.stream(types)
+                .mapToLong(type -> versions.get(type).get().lastModified())
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Applies the ETag / Last-Modified of the given types to the response and returns true when
+     * the client's copy is still current, in which case the caller should return without a body.
+     */
+    public boolean checkNotModified(WebRequest request, ContentType... types) {
+        return request.checkNotModified(etag(types), lastModified(types));
+    }
+
+    // Runs after the caches listening to the same event, so they are rebuilt before the new ETag is
+    // visible; only the change feed runs later, to announce the new version
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        versions.get(event.type()).updateAndGet(v -> new Version(v.counter() + 1, System.currentTimeMillis()));
+    }
+}
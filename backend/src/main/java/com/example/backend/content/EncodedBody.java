@@ -0,0 +1,75 @@
+package com.example.backend.content;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A serialized body (JSON unless stated otherwise) together with its gzip variant, compressed once
+ * when the body is built.
+ */
+public record EncodedBody(byte[] json, byte[] gzip) {
+
+    public static EncodedBody of(byte[] json) {
+        return new EncodedBody(json, gzip(json));
+    }
+
+    /**
+     * Picks the variant the client accepts; responses vary on Accept-Encoding so shared caches
+     * keep the two apart.
+     */
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        return toResponse(acceptEncoding, MediaType.APPLICATION_JSON);
+    }
+
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding, MediaType contentType) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(contentType)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return response.body(json);
+    }
+
+    /**
+     * ETag of the variant {@link #toResponse} picks for this Accept-Encoding. The gzip bytes differ
+     * from the identity ones, so they get their own strong validator; both the quoted and the bare
+     * form are accepted.
+     */
+    public static String etag(String etag, String acceptEncoding) {
+        if (!acceptsGzip(acceptEncoding)) return etag;
+        return etag.endsWith("\"")
+                ? etag.substring(0, etag.length() - 1) + "-gz\""
+                : etag + "-gz";
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase("gzip")) {
+                return tokens.length == 1 || !tokens[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.content;
+
+import com.example.backend.metrics.CacheCounters;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Serialized and compressed response bodies keyed by endpoint, each valid for one ETag. A body
+ * is serialized and gzipped once per content version instead of once per request.
+ */
+@Component
+public class EncodedBodyCache {
+
+    private record Entry(String etag, EncodedBody body) {}
+
+    private final ObjectMapper objectMapper;
+    private final CacheCounters counters;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public EncodedBodyCache(ObjectMapper objectMapper, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.counters = CacheCounters.register(registry, "encoded-bodies");
+    }
+
+    /**
+     * Returns the cached body for {@code key} if it was built for {@code etag}, otherwise builds
+     * it from {@code body}. Callers must read the ETag before loading the data.
+     */
+    public EncodedBody get(String key, String etag, Supplier<?> body) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.etag().equals(etag)) {
+            counters.hits().increment();
+            return entry.body();
+        }
+
+        // compute() serializes concurrent misses for the same key, so each version is built once
+        return entries.compute(key, (k, current) -> {
+            if (current != null && current.etag().equals(etag)) {
+                return current;
+            }
+            counters.misses().increment();
+            return new Entry(etag, EncodedBody.of(objectMapper.writeValueAsBytes(body.get())));
+        }).body();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only connections, handed out round-robin over the healthy replicas. A replica that fails
+ * to connect is skipped until the periodic health check sees it answer again; with no healthy
+ * replica left, reads go to the primary instead of failing.
+ * <p>
+ * For {@code maxLag} after a content change (and after startup) reads go to the primary as well.
+ * Whatever they load is cached under the new content version, so they must not see a replica
+ * that has not applied the change yet.
+ */
+@Slf4j
+public class ReplicaPool extends AbstractDataSource implements AutoCloseable {
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final long maxLagNanos;
+    private final AtomicLong primaryUntil;
+    private final Counter fallbacks;
+    private final Counter recentWriteReads;
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "replica-health");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReplicaPool(DataSource primary, List<DataSource> replicas, Duration checkInterval, Duration maxLag,
+                       MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica("replica-" + (i + 1), replicas.get(i)))
+                .toList();
+        this.maxLagNanos = maxLag.toNanos();
+        // Another instance may have written just before this one started
+        this.primaryUntil = new AtomicLong(System.nanoTime() + maxLagNanos);
+        this.fallbacks = Counter.builder("db.replicas.fallbacks")
+                .description("Read-only connections served by the primary instead of a replica")
+                .tag("reason", "unavailable")
+                .register(registry);
+        this.recentWriteReads = Counter.builder("db.replicas.fallbacks")
+                .description("Read-only connections served by the primary instead of a replica")
+                .tag("reason", "recent-write")
+                .register(registry);
+        Gauge.builder("db.replicas.healthy", this.replicas, rs -> rs.stream().filter(r -> r.healthy).count())
+                .register(registry);
+        checker.scheduleWithFixedDelay(this::checkHealth, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends read-only connections to the primary until the replicas have had {@code maxLag} to
+     * apply a change committed now.
+     */
+    public void pinToPrimary() {
+        long until = System.nanoTime() + maxLagNanos;
+        primaryUntil.accumulateAndGet(until, (current, next) -> next - current > 0 ? next : current);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(ds -> ds.getConnection(username, password));
+    }
+
+    private interface Connector {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        if (System.nanoTime() - primaryUntil.get() < 0) {
+            recentWriteReads.increment();
+            return connector.open(primary);
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) continue;
+            try {
+                return connector.open(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+                log.warn("Replica {} is unavailable, taking it out of rotation", replica.name, e);
+            }
+        }
+        fallbacks.increment();
+        return connector.open(primary);
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+    }
+
+    private void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(1);
+            } catch (SQLException | RuntimeException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.info("Replica {} is {}", replica.name, healthy ? "back in rotation" : "down");
+                replica.healthy = healthy;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.datasource;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Active when app.db.replicas.urls is set: read-only transactions run on the replicas, everything
+ * else on the primary from spring.datasource. The lazy proxy only fetches a real connection at the
+ * first statement, after the transaction manager has marked it read-only or not.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.replicas.urls")
+public class ReplicaRoutingConfig {
+
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+    private ReplicaPool pool;
+
+    // The pools are not beans themselves, so the virtual profile's limiter wraps only the routing proxy
+    @Bean
+    DataSource dataSource(DataSourceProperties properties, Environment env, MeterRegistry registry) {
+        Binder binder = Binder.get(env);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        closeables.add(primary);
+
+        List<String> urls = binder.bind("app.db.replicas.urls", Bindable.listOf(String.class)).get();
+        Duration connectionTimeout = binder.bind("app.db.replicas.connection-timeout", Duration.class)
+                .orElse(Duration.ofSeconds(1));
+        Duration checkInterval = binder.bind("app.db.replicas.health-check-interval", Duration.class)
+                .orElse(Duration.ofSeconds(5));
+        Duration maxLag = binder.bind("app.db.replicas.max-lag", Duration.class)
+                .orElse(Duration.ofSeconds(5));
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls.get(i))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setReadOnly(true);
+            // Fail over quickly, and let the app start while a replica is down
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+            closeables.add(replica);
+        }
+
+        pool = new ReplicaPool(primary, replicas, checkInterval, maxLag, registry);
+        closeables.add(0, pool);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(pool);
+        return routing;
+    }
+
+    // Local writes pin before their commit, so no read fills a cache from a replica in between;
+    // changes relayed from other instances arrive outside a transaction and pin before their eviction
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (pool != null) pool.pinToPrimary();
+    }
+
+    @PreDestroy
+    void close() throws Exception {
+        for (AutoCloseable closeable : closeables) {
+            closeable.close();
+        }
+    }
+}
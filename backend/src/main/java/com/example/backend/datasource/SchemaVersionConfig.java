@@ -0,0 +1,65 @@
+package com.example.backend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Active with the "persistent" profile (app.db.schema-version set): schema.sql and data.sql run
+ * against a file database only when its schema_version marker is older than the configured one,
+ * so restarts skip the init scripts entirely and keep admin edits.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.db.schema-version")
+public class SchemaVersionConfig {
+
+    private static final String SCHEMA = "classpath:schema.sql";
+    private static final String DATA = "classpath:data.sql";
+
+    @Bean
+    DataSourceScriptDatabaseInitializer schemaVersionInitializer(DataSource dataSource, Environment env) {
+        int target = env.getRequiredProperty("app.db.schema-version", Integer.class);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INT PRIMARY KEY,
+                    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+                )""");
+        Integer applied = jdbc.queryForObject("SELECT MAX(version) FROM schema_version", Integer.class);
+
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        if (applied != null && applied >= target) {
+            log.info("Database schema is at version {}, skipping init scripts", applied);
+            settings.setSchemaLocations(List.of());
+            settings.setDataLocations(List.of());
+        } else {
+            // schema.sql is idempotent and safe to re-run on upgrade; data.sql only seeds an empty database
+            log.info("Migrating database schema from version {} to {}", applied, target);
+            settings.setSchemaLocations(List.of(SCHEMA));
+            settings.setDataLocations(applied == null ? List.of(DATA) : List.of());
+        }
+
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings) {
+            @Override
+            public boolean initializeDatabase() {
+                boolean ran = super.initializeDatabase();
+                if (applied == null || applied < target) {
+                    jdbc.update("INSERT INTO schema_version (version) VALUES (?)", target);
+                }
+                return ran;
+            }
+        };
+    }
+}
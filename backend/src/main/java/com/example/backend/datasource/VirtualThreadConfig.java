@@ -0,0 +1,34 @@
+package com.example.backend.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Active with the "virtual" profile (spring.threads.virtual.enabled=true): Tomcat and the services
+ * it calls run on virtual threads, and JDBC access is gated by {@link ConnectionLimitingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment env) {
+        int maxConnections = env.getProperty("app.jdbc.max-concurrent-connections", Integer.class, 10);
+        long timeoutMillis = env.getProperty("app.jdbc.acquire-timeout-ms", Long.class, 30_000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(ds, maxConnections, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
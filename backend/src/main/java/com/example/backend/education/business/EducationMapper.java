@@ -0,0 +1,18 @@
+package com.example.backend.education.business;
+
+import com.example.backend.education.data.Education;
+import com.example.backend.education.presentation.EducationResponseDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+@Mapper
+public interface EducationMapper {
+
+    EducationMapper INSTANCE = Mappers.getMapper(EducationMapper.class);
+
+    EducationResponseDTO toDto(Education education);
+
+    List<EducationResponseDTO> toDtos(List<Education> educations);
+}
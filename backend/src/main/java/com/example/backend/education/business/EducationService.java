@@ -1,37 +1,137 @@
 package com.example.backend.education.business;
 
+import com.example.backend.batch.BatchItemResult;
+import com.example.backend.batch.BatchResultDTO;
+import com.example.backend.batch.Violations;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
 import com.example.backend.education.data.*;
+import com.example.backend.education.presentation.EducationRequestDTO;
+import com.example.backend.education.presentation.EducationResponseDTO;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EducationService {
 
     private final EducationRepository repo;
+    private final ApplicationEventPublisher events;
+    private final Validator validator;
 
-    public List<Education> listPublic() {
-        return repo.findAllByOrderBySortOrderAsc();
+    @Transactional(readOnly = true)
+    public List<EducationResponseDTO> listPublic() {
+        return EducationMapper.INSTANCE.toDtos(repo.findAllByOrderBySortOrderAsc());
     }
 
-    public Education create(Education e) {
-        return repo.save(e);
+    @Transactional
+    public EducationResponseDTO create(EducationRequestDTO req) {
+        Education e = Education.builder()
+                .level(req.level())
+                .school(req.school())
+                .program(req.program())
+                .status(req.status())
+                .completedYear(req.completedYear())
+                .sortOrder(req.sortOrder())
+                .build();
+        return changed(repo.save(e));
     }
 
-    public Education update(Long id, Education updated) {
+    @Transactional
+    public EducationResponseDTO update(Long id, EducationRequestDTO req) {
         Education existing = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Education not found"));
-        existing.setLevel(updated.getLevel());
-        existing.setSchool(updated.getSchool());
-        existing.setProgram(updated.getProgram());
-        existing.setStatus(updated.getStatus());
-        existing.setCompletedYear(updated.getCompletedYear());
-        existing.setSortOrder(updated.getSortOrder());
-        return repo.save(existing);
+        existing.setLevel(req.level());
+        existing.setSchool(req.school());
+        existing.setProgram(req.program());
+        existing.setStatus(req.status());
+        existing.setCompletedYear(req.completedYear());
+        existing.setSortOrder(req.sortOrder());
+        return changed(repo.save(existing));
     }
 
+    /**
+     * Upserts educations by (level, school, program), the table's unique key.
+     */
+    @Transactional
+    public BatchResultDTO saveBatch(List<EducationRequestDTO> items) {
+        BatchResultDTO.checkSize(items);
+
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        Set<String> keys = new HashSet<>();
+        Set<String> schools = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            EducationRequestDTO e = items.get(i);
+            String error = e == null ? "Item is empty" : Violations.describe(validator, e);
+            if (error == null && !keys.add(key(e.level(), e.school(), e.program()))) {
+                error = "Education appears more than once in this batch: " + e.school() + " / " + e.program();
+            }
+            if (error != null) {
+                results[i] = BatchItemResult.rejected(i, error);
+            } else {
+                schools.add(e.school());
+            }
+        }
+
+        Map<String, Education> existing = schools.isEmpty() ? Map.of() : repo.findAllBySchoolIn(schools).stream()
+                .collect(Collectors.toMap(EducationService::key, Function.identity(), (a, b) -> a));
+
+        List<Education> toSave = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) continue;
+            EducationRequestDTO e = items.get(i);
+
+            Education target = existing.get(key(e.level(), e.school(), e.program()));
+            if (target == null) {
+                target = Education.builder().level(e.level()).school(e.school()).program(e.program()).build();
+            }
+            target.setStatus(e.status());
+            target.setCompletedYear(e.completedYear());
+            target.setSortOrder(e.sortOrder());
+
+            toSave.add(target);
+            indexes.add(i);
+        }
+
+        repo.saveAll(toSave);
+
+        for (int j = 0; j < toSave.size(); j++) {
+            int i = indexes.get(j);
+            Education e = toSave.get(j);
+            results[i] = existing.containsKey(key(e))
+                    ? BatchItemResult.updated(i, e.getId())
+                    : BatchItemResult.created(i, e.getId());
+        }
+
+        if (!toSave.isEmpty()) {
+            events.publishEvent(new ContentChangedEvent(ContentType.EDUCATIONS, null));
+        }
+        return BatchResultDTO.of(Arrays.asList(results));
+    }
+
+    @Transactional
     public void delete(Long id) {
         repo.deleteById(id);
+        events.publishEvent(new ContentChangedEvent(ContentType.EDUCATIONS, id));
+    }
+
+    private static String key(Education e) {
+        return key(e.getLevel(), e.getSchool(), e.getProgram());
+    }
+
+    private static String key(String level, String school, String program) {
+        return level + "\u0000" + school + "\u0000" + program;
+    }
+
+    private EducationResponseDTO changed(Education e) {
+        events.publishEvent(new ContentChangedEvent(ContentType.EDUCATIONS, e.getId()));
+        return EducationMapper.INSTANCE.toDto(e);
     }
 }
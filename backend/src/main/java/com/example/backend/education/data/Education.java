@@ -2,8 +2,12 @@ package com.example.backend.education.data;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "educations")
 @Table(
         name = "education",
         uniqueConstraints = @UniqueConstraint(name = "uk_education_level_school_program", columnNames = {"level", "school", "program"})
@@ -13,7 +17,8 @@ import lombok.*;
 public class Education {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "education_seq")
+    @SequenceGenerator(name = "education_seq", sequenceName = "education_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -1,9 +1,13 @@
 package com.example.backend.education.presentation;
 
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
 import com.example.backend.education.business.EducationService;
-import com.example.backend.education.data.Education;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,9 +17,15 @@ import java.util.List;
 public class EducationController {
 
     private final EducationService service;
+    private final ContentVersions versions;
 
     @GetMapping
-    public List<Education> list() {
-        return service.listPublic();
+    public ResponseEntity<List<EducationResponseDTO>> list(WebRequest request) {
+        if (versions.checkNotModified(request, ContentType.EDUCATIONS)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(service.listPublic());
     }
 }
@@ -0,0 +1,15 @@
+package com.example.backend.education.presentation;
+
+import com.example.backend.education.data.EducationStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record EducationRequestDTO(
+        @NotBlank String level,
+        @NotBlank String school,
+        @NotBlank String program,
+        @NotNull EducationStatus status,
+        // Null if not applicable
+        Integer completedYear,
+        @NotNull Integer sortOrder
+) {}
@@ -0,0 +1,13 @@
+package com.example.backend.education.presentation;
+
+import com.example.backend.education.data.EducationStatus;
+
+public record EducationResponseDTO(
+        Long id,
+        String level,
+        String school,
+        String program,
+        EducationStatus status,
+        Integer completedYear,
+        Integer sortOrder
+) {}
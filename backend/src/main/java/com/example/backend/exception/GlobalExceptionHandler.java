@@ -23,6 +23,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(ImageUnavailableException.class)
+    public ResponseEntity<?> handleImageUnavailable(ImageUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_GATEWAY)
+                .body(Map.of(
+                        "timestamp", Instant.now(),
+                        "status", 502,
+                        "error", "Bad Gateway",
+                        "message", ex.getMessage()
+                ));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> handleRuntime(RuntimeException ex) {
         return ResponseEntity
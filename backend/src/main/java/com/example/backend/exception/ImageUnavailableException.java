@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class ImageUnavailableException extends RuntimeException {
+    public ImageUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
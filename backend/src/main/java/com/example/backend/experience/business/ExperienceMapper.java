@@ -0,0 +1,18 @@
+package com.example.backend.experience.business;
+
+import com.example.backend.experience.data.Experience;
+import com.example.backend.experience.presentation.ExperienceResponseDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+@Mapper
+public interface ExperienceMapper {
+
+    ExperienceMapper INSTANCE = Mappers.getMapper(ExperienceMapper.class);
+
+    ExperienceResponseDTO toDto(Experience experience);
+
+    List<ExperienceResponseDTO> toDtos(List<Experience> experiences);
+}
@@ -1,5 +1,6 @@
 package com.example.backend.experience.business;
 
+import com.example.backend.batch.BatchResultDTO;
 import com.example.backend.experience.presentation.ExperienceRequestDTO;
 import com.example.backend.experience.presentation.ExperienceResponseDTO;
 
@@ -7,8 +8,10 @@ import java.util.List;
 
 public interface ExperienceService {
     List<ExperienceResponseDTO> getPublicExperience();
+    List<ExperienceResponseDTO> getPublicExperience(int limit);
     List<ExperienceResponseDTO> getAdminExperience();
     ExperienceResponseDTO create(ExperienceRequestDTO request);
+    BatchResultDTO createBatch(List<ExperienceRequestDTO> requests);
     ExperienceResponseDTO update(Long id, ExperienceRequestDTO request);
     void delete(Long id);
 }
@@ -1,14 +1,23 @@
 package com.example.backend.experience.business;
 
+import com.example.backend.batch.BatchItemResult;
+import com.example.backend.batch.BatchResultDTO;
+import com.example.backend.batch.Violations;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
 import com.example.backend.experience.data.Experience;
 import com.example.backend.experience.data.ExperienceRepository;
 import com.example.backend.experience.presentation.ExperienceRequestDTO;
 import com.example.backend.experience.presentation.ExperienceResponseDTO;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
@@ -16,25 +25,29 @@ import java.util.List;
 @Transactional
 public class ExperienceServiceImpl implements ExperienceService {
 
+    private static final ExperienceMapper MAPPER = ExperienceMapper.INSTANCE;
+
     private final ExperienceRepository repo;
+    private final ApplicationEventPublisher events;
+    private final Validator validator;
 
     @Override
     @Transactional(readOnly = true)
     public List<ExperienceResponseDTO> getPublicExperience() {
-        // Public ordering: current first, then newest -> oldest
-        return repo.findAll().stream()
-                .sorted(publicComparator())
-                .map(this::toDto)
-                .toList();
+        return publicExperience(Limit.unlimited());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExperienceResponseDTO> getPublicExperience(int limit) {
+        return publicExperience(Limit.of(Math.max(limit, 1)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ExperienceResponseDTO> getAdminExperience() {
         // Admin ordering: your explicit sortOrder
-        return repo.findAllByOrderBySortOrderAsc().stream()
-                .map(this::toDto)
-                .toList();
+        return MAPPER.toDtos(repo.findAllByOrderBySortOrderAsc());
     }
 
     @Override
@@ -51,7 +64,54 @@ public class ExperienceServiceImpl implements ExperienceService {
                 .sortOrder(request.getSortOrder())
                 .build();
 
-        return toDto(repo.save(e));
+        return changed(MAPPER.toDto(repo.save(e)));
+    }
+
+    @Override
+    public BatchResultDTO createBatch(List<ExperienceRequestDTO> requests) {
+        BatchResultDTO.checkSize(requests);
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Experience> toSave = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ExperienceRequestDTO request = requests.get(i);
+            String error = request == null ? "Item is empty" : Violations.describe(validator, request);
+            if (error == null) {
+                try {
+                    validate(request);
+                } catch (IllegalArgumentException ex) {
+                    error = ex.getMessage();
+                }
+            }
+            if (error != null) {
+                results[i] = BatchItemResult.rejected(i, error);
+                continue;
+            }
+
+            toSave.add(Experience.builder()
+                    .company(request.getCompany().trim())
+                    .position(request.getPosition().trim())
+                    .startYear(request.getStartYear())
+                    .endYear(request.getIsPresent() ? null : request.getEndYear())
+                    .isPresent(request.getIsPresent())
+                    .summary(request.getSummary().trim())
+                    .sortOrder(request.getSortOrder())
+                    .build());
+            indexes.add(i);
+        }
+
+        repo.saveAll(toSave);
+
+        for (int j = 0; j < toSave.size(); j++) {
+            results[indexes.get(j)] = BatchItemResult.created(indexes.get(j), toSave.get(j).getId());
+        }
+
+        if (!toSave.isEmpty()) {
+            events.publishEvent(new ContentChangedEvent(ContentType.EXPERIENCES, null));
+        }
+        return BatchResultDTO.of(Arrays.asList(results));
     }
 
     @Override
@@ -69,13 +129,19 @@ public class ExperienceServiceImpl implements ExperienceService {
         e.setSummary(request.getSummary().trim());
         e.setSortOrder(request.getSortOrder());
 
-        return toDto(repo.save(e));
+        return changed(MAPPER.toDto(repo.save(e)));
     }
 
     @Override
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new IllegalArgumentException("Experience not found");
         repo.deleteById(id);
+        events.publishEvent(new ContentChangedEvent(ContentType.EXPERIENCES, id));
+    }
+
+    private List<ExperienceResponseDTO> publicExperience(Limit limit) {
+        // Public ordering: current first, then newest -> oldest (sorted by the database)
+        return MAPPER.toDtos(repo.findAllInPublicOrder(limit));
     }
 
     private void validate(ExperienceRequestDTO r) {
@@ -91,24 +157,8 @@ public class ExperienceServiceImpl implements ExperienceService {
         }
     }
 
-    private ExperienceResponseDTO toDto(Experience e) {
-        return ExperienceResponseDTO.builder()
-                .id(e.getId())
-                .company(e.getCompany())
-                .position(e.getPosition())
-                .startYear(e.getStartYear())
-                .endYear(e.getEndYear())
-                .isPresent(e.getIsPresent())
-                .summary(e.getSummary())
-                .sortOrder(e.getSortOrder())
-                .build();
-    }
-
-    private Comparator<Experience> publicComparator() {
-        // present first, then endYear desc (nulls last), then startYear desc
-        return Comparator
-                .comparing((Experience e) -> e.getIsPresent() != null && e.getIsPresent() ? 0 : 1)
-                .thenComparing((Experience e) -> e.getEndYear() == null ? Integer.MIN_VALUE : e.getEndYear(), Comparator.reverseOrder())
-                .thenComparing(Experience::getStartYear, Comparator.reverseOrder());
+    private ExperienceResponseDTO changed(ExperienceResponseDTO dto) {
+        events.publishEvent(new ContentChangedEvent(ContentType.EXPERIENCES, dto.id()));
+        return dto;
     }
 }
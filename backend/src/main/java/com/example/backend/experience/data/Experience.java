@@ -5,8 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "experiences")
 @Table(name = "experience")
 @Data
 @NoArgsConstructor
@@ -15,7 +19,8 @@ import lombok.NoArgsConstructor;
 public class Experience {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experience_seq")
+    @SequenceGenerator(name = "experience_seq", sequenceName = "experience_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
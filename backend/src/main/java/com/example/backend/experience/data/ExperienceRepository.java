@@ -1,9 +1,36 @@
 package com.example.backend.experience.data;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "experiences-lists")
+    })
     List<Experience> findAllByOrderBySortOrderAsc();
+
+    // Public ordering: present first, then endYear desc (nulls last), then startYear desc.
+    // Matches idx_experience_public_order so rows come back already sorted.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "experiences-lists")
+    })
+    @Query("select e from Experience e order by e.isPresent desc, e.endYear desc nulls last, e.startYear desc")
+    List<Experience> findAllInPublicOrder(Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select e from Experience e order by e.id")
+    Stream<Experience> streamAll();
 }
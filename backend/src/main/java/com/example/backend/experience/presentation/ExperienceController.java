@@ -1,8 +1,13 @@
 package com.example.backend.experience.presentation;
 
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
 import com.example.backend.experience.business.ExperienceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -12,9 +17,15 @@ import java.util.List;
 public class ExperienceController {
 
     private final ExperienceService service;
+    private final ContentVersions versions;
 
     @GetMapping
-    public List<ExperienceResponseDTO> list() {
-        return service.getPublicExperience();
+    public ResponseEntity<List<ExperienceResponseDTO>> list(@RequestParam(required = false) Integer limit, WebRequest request) {
+        if (versions.checkNotModified(request, ContentType.EXPERIENCES)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(limit == null ? service.getPublicExperience() : service.getPublicExperience(limit));
     }
 }
@@ -0,0 +1,362 @@
+package com.example.backend.image.business;
+
+import com.example.backend.exception.ImageUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of remote project images and their resized JPEG variants. Each source URL is
+ * downloaded once, variants are generated from the local copy, and the least recently used files
+ * are deleted once the directory grows past its byte budget. A file handed out is pinned for a
+ * while, so it is not deleted before the response has opened it.
+ */
+@Slf4j
+@Component
+public class ImageVariantStore {
+
+    /** Served widths; requested widths are rounded up to the next one so variants stay few. */
+    public static final int[] WIDTHS = {160, 320, 480, 640, 960, 1280};
+
+    private static final long MAX_SOURCE_BYTES = 20L * 1024 * 1024;
+    // A decoded pixel takes 4 bytes, so this caps a source at 160 MB of heap
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+    private static final Duration PIN = Duration.ofSeconds(30);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final Path dir;
+    private final long maxBytes;
+    private final HttpClient client;
+    private final long pinMillis;
+
+    private static final class Cached {
+        final long size;
+        long pinnedUntil;
+
+        Cached(long size, long pinnedUntil) {
+            this.size = size;
+            this.pinnedUntil = pinnedUntil;
+        }
+    }
+
+    // In access order
+    private final LinkedHashMap<Path, Cached> lru = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImageVariantStore(
+            @Value("${app.images.cache-dir}") Path dir,
+            @Value("${app.images.cache-max-bytes}") long maxBytes
+    ) {
+        this(dir, maxBytes, HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build(), PIN);
+    }
+
+    ImageVariantStore(Path dir, long maxBytes, HttpClient client, Duration pin) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        this.client = client;
+        this.pinMillis = pin.toMillis();
+        try {
+            Files.createDirectories(dir);
+            loadExisting();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot use image cache directory " + dir, e);
+        }
+    }
+
+    public static int bucket(Integer requested) {
+        if (requested != null) {
+            for (int width : WIDTHS) {
+                if (requested <= width) return width;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    /**
+     * Stable name of a variant; it changes whenever the source URL does, so it doubles as an ETag.
+     */
+    public static String key(String sourceUrl, int width) {
+        return hash(sourceUrl) + "-" + width;
+    }
+
+    /**
+     * Short hash of the source URL, the same one the frontend puts in the {@code v} parameter of
+     * image URLs (djb2 over UTF-16 code units, base 36).
+     */
+    public static String version(String sourceUrl) {
+        int h = 5381;
+        for (int i = 0; i < sourceUrl.length(); i++) {
+            h = (h << 5) + h + sourceUrl.charAt(i);
+        }
+        return Long.toString(Integer.toUnsignedLong(h), 36);
+    }
+
+    /**
+     * Returns the cached variant file, downloading and resizing on a miss. Concurrent requests for
+     * the same variant share one download.
+     */
+    public Path variant(String sourceUrl, int width) {
+        Path target = dir.resolve(key(sourceUrl, width) + ".jpg");
+        if (touch(target)) return target;
+
+        return once(target, () -> {
+            Path source = source(sourceUrl);
+            resize(source, target, width);
+            return target;
+        });
+    }
+
+    private Path source(String sourceUrl) throws IOException {
+        Path target = dir.resolve(hash(sourceUrl) + ".src");
+        if (touch(target)) return target;
+
+        return once(target, () -> {
+            URI uri = URI.create(sourceUrl);
+            if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+                throw new IOException("Unsupported image URL scheme: " + uri.getScheme());
+            }
+
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(TIMEOUT).GET().build();
+            HttpResponse<InputStream> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while fetching " + sourceUrl, e);
+            }
+
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("Origin answered " + response.statusCode() + " for " + sourceUrl);
+                }
+                write(target, out -> copyLimited(body, out));
+            }
+            return target;
+        });
+    }
+
+    private void resize(Path source, Path target, int width) throws IOException {
+        BufferedImage image = read(source);
+
+        // Never upscale; halve first for large reductions, a single bilinear pass gets blurry
+        int targetWidth = Math.min(width, image.getWidth());
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = scale(current, current.getWidth() / 2);
+        }
+        BufferedImage resized = scale(current, targetWidth);
+
+        write(target, out -> {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(ios);
+                writer.write(null, new IIOImage(resized, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+        });
+    }
+
+    // Checks the dimensions from the header before decoding, a small file can declare a huge image
+    private static BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Source image is too large: " + width + "x" + height);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width) {
+        int height = Math.max(1, (int) Math.round(image.getHeight() * (double) width / image.getWidth()));
+        // JPEG has no alpha, transparent areas are flattened onto white
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private interface Writer {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    // Written to a temp file and moved in place, so readers never see a partial file
+    private void write(Path target, Writer writer) throws IOException {
+        Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.writeTo(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        record(target, Files.size(target), System.currentTimeMillis() + pinMillis);
+    }
+
+    private static void copyLimited(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            total += n;
+            if (total > MAX_SOURCE_BYTES) {
+                throw new IOException("Source image is larger than " + MAX_SOURCE_BYTES + " bytes");
+            }
+            out.write(buffer, 0, n);
+        }
+    }
+
+    private interface Loader {
+        Path load() throws IOException;
+    }
+
+    private Path once(Path target, Loader loader) {
+        String name = target.getFileName().toString();
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(name, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            // Another request may have finished this file between our miss and taking the slot
+            Path path = touch(target) ? target : loader.load();
+            mine.complete(path);
+            return path;
+        } catch (IOException | RuntimeException e) {
+            ImageUnavailableException ex = e instanceof ImageUnavailableException iue
+                    ? iue
+                    : new ImageUnavailableException("Image unavailable: " + e.getMessage(), e);
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(name, mine);
+        }
+    }
+
+    private synchronized boolean touch(Path path) {
+        Cached cached = lru.get(path);
+        if (cached == null) return false;
+        cached.pinnedUntil = Math.max(cached.pinnedUntil, System.currentTimeMillis() + pinMillis);
+        return true;
+    }
+
+    // Pinned files may keep the directory over budget until their pin runs out and the next write
+    private synchronized void record(Path path, long size, long pinnedUntil) {
+        Cached previous = lru.put(path, new Cached(size, pinnedUntil));
+        totalBytes += size - (previous != null ? previous.size : 0);
+
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Path, Cached>> it = lru.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Path, Cached> eldest = it.next();
+            if (eldest.getKey().equals(path) || eldest.getValue().pinnedUntil > now) continue;
+            it.remove();
+            totalBytes -= eldest.getValue().size;
+            try {
+                Files.deleteIfExists(eldest.getKey());
+            } catch (IOException e) {
+                log.warn("Could not delete cached image {}", eldest.getKey(), e);
+            }
+        }
+    }
+
+    // Restores the LRU order from file modification times, so a restart keeps the warm cache
+    private void loadExisting() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(Files::isRegularFile).toList();
+        }
+
+        record Existing(Path path, BasicFileAttributes attributes) {}
+        List<Existing> existing = new ArrayList<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(".tmp")) {
+                Files.deleteIfExists(file);
+            } else {
+                existing.add(new Existing(file, Files.readAttributes(file, BasicFileAttributes.class)));
+            }
+        }
+
+        existing.stream()
+                .sorted(Comparator.comparing(e -> e.attributes().lastModifiedTime()))
+                .forEach(e -> record(e.path(), e.attributes().size(), 0));
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.image.presentation;
+
+import com.example.backend.image.business.ImageVariantStore;
+import com.example.backend.project.business.ProjectService;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ProjectService projects;
+    private final ImageVariantStore store;
+
+    // GET /api/images/dm-creations?w=480&v=1a2b3c
+    @GetMapping("/{slug}")
+    public void get(
+            @PathVariable String slug,
+            @RequestParam(required = false) Integer w,
+            @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ProjectResponseDTO project = projects.getBySlug(slug);
+        if (project.imageUrl() == null || project.imageUrl().isBlank()) {
+            throw new RuntimeException("Project has no image");
+        }
+
+        int width = ImageVariantStore.bucket(w);
+        // v is derived from the image URL by the frontend, so only the current one never changes
+        // content; an outdated v must not keep the new image out of caches for a year
+        CacheControl cacheControl;
+        if (v == null) {
+            cacheControl = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+        } else if (v.equals(ImageVariantStore.version(project.imageUrl()))) {
+            cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        } else {
+            cacheControl = CacheControl.noCache();
+        }
+
+        String etag = "\"" + ImageVariantStore.key(project.imageUrl(), width) + "\"";
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            return;
+        }
+
+        // Pinned in the store long enough for Tomcat to open it for sendfile
+        Path file = store.variant(project.imageUrl(), width);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        long size = Files.size(file);
+        response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+        response.setContentLengthLong(size);
+
+        // Let Tomcat transfer the file with sendfile instead of copying it through the heap
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+        } else {
+            Files.copy(file, response.getOutputStream());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.backend.invalidation;
+
+import com.example.backend.content.ContentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps the per-instance caches of several replicas in step. Local changes are handed to the
+ * transport before commit; changes from other nodes are republished here as remote
+ * {@link ContentChangedEvent}s, so the read model, search index, ETags and change feed react to
+ * them exactly as to a local write.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidationBus implements SmartLifecycle {
+
+    private final InvalidationTransport transport;
+    private final ApplicationEventPublisher events;
+    private final String node;
+
+    private volatile boolean running;
+
+    public InvalidationBus(
+            InvalidationTransport transport,
+            ApplicationEventPublisher events,
+            @Value("${app.invalidation.node-id:}") String node
+    ) {
+        this.transport = transport;
+        this.events = events;
+        this.node = node.isBlank() ? UUID.randomUUID().toString() : node;
+    }
+
+    public String node() {
+        return node;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.remote()) return;
+        transport.send(node, event);
+    }
+
+    // Runs after the init scripts have created the outbox table, but before the web server and the
+    // ready-time warm-up fill any cache, so every change committed after a cache load is delivered
+    @Override
+    public void start() {
+        transport.start(node, this::receive);
+        running = true;
+        log.info("Invalidation bus started as node {}", node);
+    }
+
+    @Override
+    public void stop() {
+        transport.stop();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void receive(ContentChangedEvent event) {
+        events.publishEvent(new ContentChangedEvent(event.type(), event.id(), true));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.invalidation;
+
+import com.example.backend.content.ContentChangedEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries content changes between instances. {@link #send} is called inside the writing
+ * transaction when there is one, so a transport that shares the database commits or rolls back
+ * with the write itself.
+ */
+public interface InvalidationTransport {
+
+    void send(String node, ContentChangedEvent event);
+
+    /** Starts delivering changes sent by other nodes; changes sent by {@code node} are skipped. */
+    void start(String node, Consumer<ContentChangedEvent> receiver);
+
+    void stop();
+}
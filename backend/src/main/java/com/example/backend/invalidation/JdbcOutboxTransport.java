@@ -0,0 +1,160 @@
+package com.example.backend.invalidation;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Transport that needs nothing but the shared database: changes are rows of the content_outbox
+ * table, inserted in the writer's transaction and polled by every node.
+ *
+ * <p>Ids come from an identity column, but transactions commit in any order, so a lower id can
+ * appear after a higher one was read. Ids above the last gap-free id are remembered and polled
+ * again until the gap fills or is older than the gap timeout (a rolled-back insert).
+ *
+ * <p>Ages are measured against the database's CURRENT_TIMESTAMP, the clock created_at was filled
+ * from, so a node whose own clock is off neither skips nor replays rows.
+ */
+@Slf4j
+@Component
+public class JdbcOutboxTransport implements InvalidationTransport {
+
+    private static final int BATCH = 500;
+
+    private record Row(long id, String node, ContentType type, Long entityId) {}
+
+    private final JdbcTemplate jdbc;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final Duration gapTimeout;
+
+    private ScheduledExecutorService poller;
+
+    // Only touched by the poller thread
+    private long watermark;
+    private final TreeSet<Long> seenAbove = new TreeSet<>();
+    private long gapSince;
+    private long lastPurge;
+
+    public JdbcOutboxTransport(
+            JdbcTemplate jdbc,
+            @Value("${app.invalidation.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.invalidation.retention:1h}") Duration retention,
+            @Value("${app.invalidation.gap-timeout:5s}") Duration gapTimeout
+    ) {
+        this.jdbc = jdbc;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+        this.gapTimeout = gapTimeout;
+    }
+
+    @Override
+    public void send(String node, ContentChangedEvent event) {
+        jdbc.update("INSERT INTO content_outbox (node, content_type, entity_id) VALUES (?, ?, ?)",
+                node, event.type().name(), event.id());
+    }
+
+    @Override
+    public synchronized void start(String node, Consumer<ContentChangedEvent> receiver) {
+        if (poller != null) return;
+
+        // A starting node loads everything from the database afterwards, so older rows are of no use
+        // to it. Recent ones are replayed: a transaction still open now may hold a lower id than
+        // MAX(id), and would otherwise commit below the watermark.
+        watermark = jdbc.queryForObject("""
+                        SELECT COALESCE(MAX(id), 0) FROM content_outbox
+                        WHERE created_at < DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP)""",
+                Long.class, -gapTimeout.toMillis());
+
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "invalidation-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                poll(node, receiver);
+            } catch (RuntimeException e) {
+                // Keep polling; the rows stay in the table and are picked up next time
+                log.warn("Polling the invalidation outbox failed", e);
+            }
+        }, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    private void poll(String node, Consumer<ContentChangedEvent> receiver) {
+        // Read up to the newest row: while a gap holds the watermark, the first batch above it may
+        // be rows already seen, and stopping there would hold back everything newer
+        long after = watermark;
+        List<Row> rows;
+        do {
+            rows = jdbc.query("""
+                            SELECT id, node, content_type, entity_id FROM content_outbox
+                            WHERE id > ? ORDER BY id LIMIT ?""",
+                    (rs, i) -> new Row(
+                            rs.getLong("id"),
+                            rs.getString("node"),
+                            ContentType.valueOf(rs.getString("content_type")),
+                            rs.getObject("entity_id", Long.class)),
+                    after, BATCH);
+
+            for (Row row : rows) {
+                if (!seenAbove.add(row.id())) continue;
+                if (!row.node().equals(node)) {
+                    receiver.accept(new ContentChangedEvent(row.type(), row.entityId()));
+                }
+            }
+            if (!rows.isEmpty()) after = rows.getLast().id();
+        } while (rows.size() == BATCH);
+
+        advanceWatermark();
+        purge();
+    }
+
+    private void advanceWatermark() {
+        long previous = watermark;
+        while (!seenAbove.isEmpty() && seenAbove.first() == watermark + 1) {
+            watermark = seenAbove.pollFirst();
+        }
+        if (seenAbove.isEmpty()) {
+            gapSince = 0;
+            return;
+        }
+
+        // Once the watermark moves, the gap above it is a different one and gets its own timeout
+        long now = System.nanoTime();
+        if (gapSince == 0 || watermark != previous) {
+            gapSince = now;
+        } else if (now - gapSince > gapTimeout.toNanos()) {
+            watermark = seenAbove.first() - 1;
+            gapSince = 0;
+            advanceWatermark();
+        }
+    }
+
+    private void purge() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurge < retention.toMillis() / 10) return;
+        lastPurge = now;
+        jdbc.update("DELETE FROM content_outbox WHERE created_at < DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP)",
+                -retention.toMillis());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hit/miss counters for one in-memory cache, published as cache.gets{cache, result} like
+ * Micrometer's own cache binders so the hit ratio can be graphed the same way.
+ */
+public record CacheCounters(Counter hits, Counter misses) {
+
+    public static CacheCounters register(MeterRegistry registry, String cache) {
+        return new CacheCounters(
+                Counter.builder("cache.gets").tag("cache", cache).tag("result", "hit").register(registry),
+                Counter.builder("cache.gets").tag("cache", cache).tag("result", "miss").register(registry)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Per-endpoint numbers that http.server.requests does not give us: SQL statements per request
+ * and how often conditional GETs are answered with 304.
+ */
+@RequiredArgsConstructor
+class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountingInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // Unmatched requests share one tag, as in http.server.requests, instead of the text "null"
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements issued while handling one request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(StatementCountingInspector.current());
+
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            boolean hit = response.getStatus() == HttpStatus.NOT_MODIFIED.value();
+            Counter.builder("http.server.requests.conditional")
+                    .description("Conditional GETs, result=hit when answered with 304")
+                    .tag("uri", uri)
+                    .tag("result", hit ? "hit" : "miss")
+                    .register(registry)
+                    .increment();
+        }
+    }
+}
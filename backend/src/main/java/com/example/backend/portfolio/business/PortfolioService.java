@@ -0,0 +1,86 @@
+package com.example.backend.portfolio.business;
+
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
+import com.example.backend.content.EncodedBody;
+import com.example.backend.education.business.EducationService;
+import com.example.backend.experience.business.ExperienceService;
+import com.example.backend.metrics.CacheCounters;
+import com.example.backend.portfolio.presentation.PortfolioResponseDTO;
+import com.example.backend.project.business.ProjectService;
+import com.example.backend.skill.business.SkillService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the whole public portfolio serialized (plain and gzipped) in memory. The bytes are
+ * regenerated on the first request after any of the four content types changed.
+ */
+@Service
+public class PortfolioService {
+
+    private static final ContentType[] TYPES = ContentType.values();
+
+    public record Payload(String etag, long lastModified, EncodedBody body) {}
+
+    private final ProjectService projectService;
+    private final ExperienceService experienceService;
+    private final EducationService educationService;
+    private final SkillService skillService;
+    private final ContentVersions versions;
+    private final ObjectMapper objectMapper;
+    private final CacheCounters counters;
+
+    private volatile Payload payload;
+
+    public PortfolioService(
+            ProjectService projectService,
+            ExperienceService experienceService,
+            EducationService educationService,
+            SkillService skillService,
+            ContentVersions versions,
+            ObjectMapper objectMapper,
+            MeterRegistry registry
+    ) {
+        this.projectService = projectService;
+        this.experienceService = experienceService;
+        this.educationService = educationService;
+        this.skillService = skillService;
+        this.versions = versions;
+        this.objectMapper = objectMapper;
+        this.counters = CacheCounters.register(registry, "portfolio");
+    }
+
+    public Payload current() {
+        Payload p = payload;
+        if (p != null && p.etag().equals(versions.etag(TYPES))) {
+            counters.hits().increment();
+            return p;
+        }
+        counters.misses().increment();
+        return rebuild();
+    }
+
+    private synchronized Payload rebuild() {
+        // Versions are read before the data, so the payload is never older than its ETag
+        String etag = versions.etag(TYPES);
+        long lastModified = versions.lastModified(TYPES);
+
+        Payload p = payload;
+        if (p != null && p.etag().equals(etag)) {
+            return p;
+        }
+
+        PortfolioResponseDTO portfolio = new PortfolioResponseDTO(
+                projectService.getProjects(null),
+                experienceService.getPublicExperience(),
+                educationService.listPublic(),
+                skillService.list()
+        );
+
+        Payload next = new Payload(etag, lastModified, EncodedBody.of(objectMapper.writeValueAsBytes(portfolio)));
+        payload = next;
+        return next;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.portfolio.presentation;
+
+import com.example.backend.content.EncodedBody;
+import com.example.backend.portfolio.business.PortfolioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+public class PortfolioController {
+
+    private final PortfolioService service;
+
+    // GET /api/portfolio -> { projects, experiences, educations, skills }
+    @GetMapping
+    public ResponseEntity<byte[]> get(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        PortfolioService.Payload payload = service.current();
+        if (request.checkNotModified(EncodedBody.etag(payload.etag(), acceptEncoding), payload.lastModified())) {
+            return null;
+        }
+
+        return payload.body().toResponse(acceptEncoding);
+    }
+}
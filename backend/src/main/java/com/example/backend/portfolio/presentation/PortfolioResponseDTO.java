@@ -0,0 +1,15 @@
+package com.example.backend.portfolio.presentation;
+
+import com.example.backend.education.presentation.EducationResponseDTO;
+import com.example.backend.experience.presentation.ExperienceResponseDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+
+import java.util.List;
+
+public record PortfolioResponseDTO(
+        List<ProjectResponseDTO> projects,
+        List<ExperienceResponseDTO> experiences,
+        List<EducationResponseDTO> educations,
+        List<SkillResponseDTO> skills
+) {}
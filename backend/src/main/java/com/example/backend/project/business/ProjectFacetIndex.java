@@ -0,0 +1,153 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.presentation.ProjectFacetsDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compressed bitmaps of project positions in the read model's list, one per skill and one per
+ * skill category. A filter is a handful of bitmap intersections, and iterating the result yields
+ * the projects already in list order, so the cost grows with the bitmaps rather than the table.
+ */
+@Component
+public class ProjectFacetIndex {
+
+    private record Index(
+            long snapshotVersion,
+            long skillsGeneration,
+            List<ProjectResponseDTO> projects,
+            Map<Long, Integer> positions,
+            List<SkillResponseDTO> skills,
+            Map<Long, RoaringBitmap> bySkill,
+            Map<String, RoaringBitmap> byCategory
+    ) {}
+
+    private final ProjectReadModel readModel;
+    private final SkillService skillService;
+
+    private final AtomicLong skillsGeneration = new AtomicLong();
+    private volatile Index index;
+
+    public ProjectFacetIndex(ProjectReadModel readModel, SkillService skillService) {
+        this.readModel = readModel;
+        this.skillService = skillService;
+    }
+
+    /**
+     * Projects that have every skill in {@code skillNames} (matched by name, ignoring case) and at
+     * least one skill in {@code category}. {@code candidates}, when not null, further limits the
+     * result to those project ids.
+     */
+    public ProjectFacetsDTO filter(Collection<String> skillNames, String category, Collection<Long> candidates) {
+        Index idx = current();
+
+        RoaringBitmap result = RoaringBitmap.bitmapOfRange(0, idx.projects().size());
+        if (skillNames != null) {
+            for (String name : skillNames) {
+                if (name.isBlank()) continue;
+                RoaringBitmap withName = new RoaringBitmap();
+                for (SkillResponseDTO skill : idx.skills()) {
+                    if (skill.name().equalsIgnoreCase(name.trim())) {
+                        withName.or(idx.bySkill().get(skill.id()));
+                    }
+                }
+                result.and(withName);
+            }
+        }
+        if (category != null && !category.isBlank()) {
+            result.and(idx.byCategory().getOrDefault(category.trim().toLowerCase(Locale.ROOT), new RoaringBitmap()));
+        }
+        if (candidates != null) {
+            RoaringBitmap allowed = new RoaringBitmap();
+            for (Long id : candidates) {
+                Integer position = idx.positions().get(id);
+                if (position != null) allowed.add(position);
+            }
+            result.and(allowed);
+        }
+
+        List<ProjectResponseDTO> projects = new ArrayList<>(result.getCardinality());
+        result.forEach((int position) -> projects.add(idx.projects().get(position)));
+
+        List<ProjectFacetsDTO.SkillFacet> skillFacets = idx.skills().stream()
+                .map(s -> new ProjectFacetsDTO.SkillFacet(s.id(), s.category(), s.name(),
+                        RoaringBitmap.andCardinality(result, idx.bySkill().get(s.id()))))
+                .toList();
+
+        Map<String, ProjectFacetsDTO.CategoryFacet> categoryFacets = new LinkedHashMap<>();
+        for (SkillResponseDTO skill : idx.skills()) {
+            categoryFacets.computeIfAbsent(skill.category().toLowerCase(Locale.ROOT), key ->
+                    new ProjectFacetsDTO.CategoryFacet(skill.category(),
+                            RoaringBitmap.andCardinality(result, idx.byCategory().get(key))));
+        }
+
+        return new ProjectFacetsDTO(projects, skillFacets, List.copyOf(categoryFacets.values()));
+    }
+
+    // Skill renames and moves change the facets without touching any project
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.type() == ContentType.SKILLS) {
+            skillsGeneration.incrementAndGet();
+        }
+    }
+
+    private Index current() {
+        ProjectReadModel.Snapshot snapshot = readModel.current();
+        Index idx = index;
+        if (idx != null && idx.snapshotVersion() == snapshot.version() && idx.skillsGeneration() == skillsGeneration.get()) {
+            return idx;
+        }
+        return build();
+    }
+
+    private synchronized Index build() {
+        // Versions are read before the data, so a change racing the build only makes the next call rebuild
+        long generation = skillsGeneration.get();
+        ProjectReadModel.Snapshot snapshot = readModel.current();
+        Index idx = index;
+        if (idx != null && idx.snapshotVersion() == snapshot.version() && idx.skillsGeneration() == generation) {
+            return idx;
+        }
+
+        List<SkillResponseDTO> skills = skillService.list();
+        Map<Long, RoaringBitmap> bySkill = new HashMap<>();
+        Map<Long, RoaringBitmap> byCategoryOfSkill = new HashMap<>();
+        Map<String, RoaringBitmap> byCategory = new HashMap<>();
+        for (SkillResponseDTO skill : skills) {
+            bySkill.put(skill.id(), new RoaringBitmap());
+            RoaringBitmap category = byCategory.computeIfAbsent(skill.category().toLowerCase(Locale.ROOT), c -> new RoaringBitmap());
+            byCategoryOfSkill.put(skill.id(), category);
+        }
+
+        List<ProjectResponseDTO> projects = snapshot.projects();
+        Map<Long, Integer> positions = HashMap.newHashMap(projects.size());
+        for (int position = 0; position < projects.size(); position++) {
+            positions.put(projects.get(position).id(), position);
+            for (Long skillId : projects.get(position).skillIds()) {
+                RoaringBitmap bitmap = bySkill.get(skillId);
+                if (bitmap != null) {
+                    bitmap.add(position);
+                    byCategoryOfSkill.get(skillId).add(position);
+                }
+            }
+        }
+        bySkill.values().forEach(RoaringBitmap::runOptimize);
+        byCategory.values().forEach(RoaringBitmap::runOptimize);
+
+        idx = new Index(snapshot.version(), generation, projects, positions, skills, Map.copyOf(bySkill), Map.copyOf(byCategory));
+        index = idx;
+        return idx;
+    }
+}
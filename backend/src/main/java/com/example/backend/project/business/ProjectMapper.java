@@ -0,0 +1,33 @@
+package com.example.backend.project.business;
+
+import com.example.backend.project.data.Project;
+import com.example.backend.project.data.ProjectCard;
+import com.example.backend.project.presentation.ProjectCardDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.data.Skill;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generated at compile time: plain getter calls into the record constructor, no reflection.
+ */
+@Mapper
+public interface ProjectMapper {
+
+    ProjectMapper INSTANCE = Mappers.getMapper(ProjectMapper.class);
+
+    @Mapping(target = "skillIds", source = "skills")
+    ProjectResponseDTO toDto(Project project);
+
+    List<ProjectResponseDTO> toDtos(List<Project> projects);
+
+    ProjectCardDTO toCardDto(ProjectCard card);
+
+    default List<Long> skillIds(Set<Skill> skills) {
+        return skills.stream().map(Skill::getId).sorted().toList();
+    }
+}
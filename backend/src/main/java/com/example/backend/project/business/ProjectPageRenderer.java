@@ -0,0 +1,172 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.EncodedBody;
+import com.example.backend.image.business.ImageVariantStore;
+import com.example.backend.metrics.CacheCounters;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.HtmlUtils;
+import org.springframework.web.util.UriUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-rendered HTML for a project detail page, cached per slug. A page is rendered again only
+ * when the project it was built from differs from the one in the read model, so writes to other
+ * projects leave it alone.
+ */
+@Component
+public class ProjectPageRenderer {
+
+    public record Page(ProjectResponseDTO project, String etag, EncodedBody body) {}
+
+    // PROJECT_IMAGE_WIDTHS in frontend/src/api/projectsApi.ts
+    private static final int[] IMAGE_WIDTHS = {320, 480, 640, 960};
+
+    private final ProjectService projects;
+    private final ObjectMapper objectMapper;
+    private final CacheCounters counters;
+    private final String head;
+    private final String apiBaseUrl;
+    private final Map<String, Page> pages = new ConcurrentHashMap<>();
+    private final byte[] notFound;
+
+    public ProjectPageRenderer(
+            ProjectService projects,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.ssr.head:}") String head,
+            @Value("${app.ssr.api-base-url:}") String apiBaseUrl
+    ) {
+        this.projects = projects;
+        this.objectMapper = objectMapper;
+        this.counters = CacheCounters.register(registry, "project-pages");
+        this.head = head;
+        this.apiBaseUrl = apiBaseUrl.replaceAll("/+$", "");
+        this.notFound = renderNotFound().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** The page for the project with this slug, or null when there is none. */
+    public Page page(String slug) {
+        ProjectResponseDTO project = projects.findBySlug(slug).orElse(null);
+        if (project == null) {
+            pages.remove(slug);
+            return null;
+        }
+
+        Page page = pages.get(slug);
+        if (page != null && page.project().equals(project)) {
+            counters.hits().increment();
+            return page;
+        }
+        return pages.compute(slug, (k, current) -> {
+            if (current != null && current.project().equals(project)) {
+                return current;
+            }
+            counters.misses().increment();
+            byte[] html = render(project).getBytes(StandardCharsets.UTF_8);
+            return new Page(project, "\"" + DigestUtils.md5DigestAsHex(html) + "\"", EncodedBody.of(html));
+        });
+    }
+
+    private String render(ProjectResponseDTO p) {
+        String title = HtmlUtils.htmlEscape(p.title());
+        String description = HtmlUtils.htmlEscape(p.description());
+
+        StringBuilder links = new StringBuilder();
+        if (p.liveUrl() != null && !p.liveUrl().isBlank()) {
+            links.append("<a href=\"").append(HtmlUtils.htmlEscape(p.liveUrl())).append("\" rel=\"noreferrer\">Live site</a>");
+        }
+        if (p.githubUrl() != null && !p.githubUrl().isBlank()) {
+            links.append("<a href=\"").append(HtmlUtils.htmlEscape(p.githubUrl())).append("\" rel=\"noreferrer\">GitHub</a>");
+        }
+
+        String image = "";
+        String ogImage = "";
+        if (p.imageUrl() != null && !p.imageUrl().isBlank()) {
+            String src = HtmlUtils.htmlEscape(imageUrl(p, 960));
+            StringBuilder srcSet = new StringBuilder();
+            for (int width : IMAGE_WIDTHS) {
+                if (!srcSet.isEmpty()) srcSet.append(", ");
+                srcSet.append(imageUrl(p, width)).append(' ').append(width).append('w');
+            }
+            image = "<img src=\"" + src + "\" srcset=\"" + HtmlUtils.htmlEscape(srcSet.toString())
+                    + "\" sizes=\"(min-width: 1024px) 960px, 100vw\" alt=\"" + title + "\">";
+            ogImage = "<meta property=\"og:image\" content=\"" + src + "\">";
+        }
+
+        return """
+                <!doctype html>
+                <html lang="en">
+                <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <title>%1$s</title>
+                <meta name="description" content="%2$s">
+                <meta property="og:title" content="%1$s">
+                <meta property="og:description" content="%2$s">
+                %3$s
+                <style>body{margin:0;background:#262626;color:#f5f5f5;font-family:system-ui,sans-serif}main{max-width:960px;margin:0 auto;padding:2.5rem 1rem}img{width:100%%;height:auto;border-radius:1rem}nav a,p a{color:inherit;margin-right:1rem}</style>
+                %4$s
+                </head>
+                <body>
+                <div id="root"><main>
+                <nav><a href="/projects">&larr; Projects</a></nav>
+                <h1>%1$s</h1>
+                %5$s
+                <p>%2$s</p>
+                <p>%6$s</p>
+                </main></div>
+                <script id="project-data" type="application/json">%7$s</script>
+                </body>
+                </html>
+                """.formatted(title, description, ogImage, head, image, links, json(p));
+    }
+
+    /** Body of the 404 response for an unknown slug; the client app still boots from it. */
+    public byte[] notFound() {
+        return notFound.clone();
+    }
+
+    private String renderNotFound() {
+        return """
+                <!doctype html>
+                <html lang="en">
+                <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <title>Project not found</title>
+                <meta name="robots" content="noindex">
+                %s
+                </head>
+                <body>
+                <div id="root"><main>
+                <nav><a href="/projects">&larr; Projects</a></nav>
+                <h1>Project not found</h1>
+                </main></div>
+                </body>
+                </html>
+                """.formatted(head);
+    }
+
+    // Lets the client app start from this data instead of fetching /api/projects/{slug} again
+    private String json(ProjectResponseDTO p) {
+        return objectMapper.writeValueAsString(p)
+                .replace("<", "\\u003c")
+                .replace(">", "\\u003e")
+                .replace("&", "\\u0026");
+    }
+
+    // Same URL projectImageUrl builds in projectsApi.ts when app.ssr.api-base-url is the origin of
+    // VITE_API_URL, so the page and the app share the browser's image cache
+    private String imageUrl(ProjectResponseDTO p, int width) {
+        return apiBaseUrl + "/api/images/" + UriUtils.encodePathSegment(p.slug(), StandardCharsets.UTF_8)
+                + "?w=" + width + "&v=" + ImageVariantStore.version(p.imageUrl());
+    }
+}
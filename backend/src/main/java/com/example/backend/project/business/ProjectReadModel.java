@@ -0,0 +1,94 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.metrics.CacheCounters;
+import com.example.backend.project.data.ProjectRepository;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the public project list. Reads never touch the database;
+ * the snapshot is rebuilt once per committed project write.
+ */
+@Slf4j
+@Component
+public class ProjectReadModel {
+
+    public record Snapshot(
+            long version,
+            List<ProjectResponseDTO> projects,
+            Map<Long, ProjectResponseDTO> byId,
+            Map<String, ProjectResponseDTO> bySlug
+    ) {}
+
+    private final ProjectRepository repo;
+    private final TransactionTemplate tx;
+    private final CacheCounters counters;
+
+    private volatile Snapshot snapshot;
+    private long version;
+
+    public ProjectReadModel(ProjectRepository repo, PlatformTransactionManager txManager, MeterRegistry registry) {
+        this.repo = repo;
+        this.counters = CacheCounters.register(registry, "projects");
+        this.tx = new TransactionTemplate(txManager);
+        // Runs after the writer's commit, so it needs its own transaction. Deliberately not read-only:
+        // that would route it to a replica, which may not have the commit that triggered the rebuild yet
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            counters.hits().increment();
+            return s;
+        }
+        counters.misses().increment();
+        return initialize();
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.type() != ContentType.PROJECTS) return;
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // The write is already committed; drop the snapshot so the next read reloads it
+            log.warn("Could not rebuild project read model, it will be reloaded on next read", ex);
+            snapshot = null;
+        }
+    }
+
+    private synchronized Snapshot initialize() {
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        List<ProjectResponseDTO> projects = Collections.unmodifiableList(
+                tx.execute(status -> ProjectMapper.INSTANCE.toDtos(repo.findAllByOrderByCreatedAtDescIdDesc())));
+
+        Map<Long, ProjectResponseDTO> byId = projects.stream()
+                .collect(Collectors.toUnmodifiableMap(ProjectResponseDTO::id, Function.identity()));
+        Map<String, ProjectResponseDTO> bySlug = projects.stream()
+                .collect(Collectors.toUnmodifiableMap(ProjectResponseDTO::slug, Function.identity()));
+
+        Snapshot next = new Snapshot(++version, projects, byId, bySlug);
+        snapshot = next;
+        return next;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over project title, slug and description. Every query token is matched as a
+ * prefix against the sorted term dictionary, so lookups cost O(log terms + matches) instead of
+ * a table scan. Kept in sync with {@link ProjectReadModel} one project at a time.
+ */
+@Component
+public class ProjectSearchIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SLUG_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private record Index(
+            // term -> (project id -> field weight)
+            ConcurrentSkipListMap<String, Map<Long, Integer>> postings,
+            // project id -> its terms, needed to unindex the old version on update/delete
+            Map<Long, Map<String, Integer>> docs
+    ) {
+        Index() {
+            this(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    private final ProjectReadModel readModel;
+
+    // Null until the first search; a full reindex builds a new one and swaps it in
+    private volatile Index index;
+
+    public ProjectSearchIndex(ProjectReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    /**
+     * Returns matching project ids with their score. A project matches when every query token
+     * is a prefix of one of its terms; exact term matches score twice as much as prefix ones.
+     */
+    public Map<Long, Integer> search(String q) {
+        Index idx = index;
+        if (idx == null) idx = initialize();
+
+        List<String> tokens = tokenize(q);
+        if (tokens.isEmpty()) return Map.of();
+
+        Map<Long, Integer> scores = null;
+        for (String token : tokens) {
+            Map<Long, Integer> tokenScores = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Integer>> term : idx.postings().subMap(token, token + Character.MAX_VALUE).entrySet()) {
+                int boost = term.getKey().equals(token) ? 2 : 1;
+                term.getValue().forEach((id, weight) -> tokenScores.merge(id, weight * boost, Math::max));
+            }
+
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((id, score) -> score + tokenScores.get(id));
+            }
+            if (scores.isEmpty()) break;
+        }
+        return scores;
+    }
+
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        // Not built yet: the first search will index the latest snapshot anyway
+        Index idx = index;
+        if (event.type() != ContentType.PROJECTS || idx == null) return;
+
+        if (event.id() == null) {
+            reindexAll();
+            return;
+        }
+
+        ProjectResponseDTO p = readModel.current().byId().get(event.id());
+        if (p == null) remove(idx, event.id());
+        else put(idx, p);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private synchronized Index initialize() {
+        return index != null ? index : reindexAll();
+    }
+
+    // Searches keep using the previous index until the new one is complete
+    private synchronized Index reindexAll() {
+        Index next = new Index();
+        readModel.current().projects().forEach(p -> put(next, p));
+        index = next;
+        return next;
+    }
+
+    private static void put(Index idx, ProjectResponseDTO p) {
+        remove(idx, p.id());
+
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, p.title(), TITLE_WEIGHT);
+        addTerms(terms, p.slug(), SLUG_WEIGHT);
+        addTerms(terms, p.description(), DESCRIPTION_WEIGHT);
+
+        terms.forEach((term, weight) -> idx.postings()
+                .computeIfAbsent(term, t -> new ConcurrentHashMap<>())
+                .put(p.id(), weight));
+        idx.docs().put(p.id(), terms);
+    }
+
+    private static void remove(Index idx, Long id) {
+        Map<String, Integer> terms = idx.docs().remove(id);
+        if (terms == null) return;
+
+        for (String term : terms.keySet()) {
+            idx.postings().computeIfPresent(term, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Math::max);
+        }
+    }
+}
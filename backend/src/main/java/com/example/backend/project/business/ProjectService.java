@@ -1,35 +1,91 @@
 package com.example.backend.project.business;
 
+import com.example.backend.batch.BatchItemResult;
+import com.example.backend.batch.BatchResultDTO;
+import com.example.backend.batch.Violations;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
 import com.example.backend.exception.DuplicateSlugException;
 import com.example.backend.project.data.Project;
+import com.example.backend.project.data.ProjectCard;
 import com.example.backend.project.data.ProjectRepository;
+import com.example.backend.project.presentation.ProjectCardDTO;
+import com.example.backend.project.presentation.ProjectFacetsDTO;
+import com.example.backend.project.presentation.ProjectPageDTO;
 import com.example.backend.project.presentation.ProjectRequestDTO;
 import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.data.Skill;
+import com.example.backend.skill.data.SkillRepository;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final ProjectMapper MAPPER = ProjectMapper.INSTANCE;
+
     private final ProjectRepository repo;
+    private final SkillRepository skillRepo;
+    private final ProjectReadModel readModel;
+    private final ProjectSearchIndex searchIndex;
+    private final ProjectFacetIndex facetIndex;
+    private final ApplicationEventPublisher events;
+    private final Validator validator;
 
     public List<ProjectResponseDTO> getProjects(String q) {
-        List<Project> projects = (q == null || q.isBlank())
-                ? repo.findAllByOrderByCreatedAtDesc()
-                : repo.findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(q.trim());
+        if (q == null || q.isBlank()) {
+            return readModel.current().projects();
+        }
+
+        // Best score first, newest first among equal scores
+        Map<Long, Integer> scores = searchIndex.search(q);
+        Map<Long, ProjectResponseDTO> byId = readModel.current().byId();
+        return scores.entrySet().stream()
+                .filter(e -> byId.containsKey(e.getKey()))
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(e -> byId.get(e.getKey()).createdAt(), Comparator.reverseOrder())
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                .map(e -> byId.get(e.getKey()))
+                .toList();
+    }
+
+    /**
+     * Projects filtered by skill names and skill category, with facet counts. With a search query
+     * the matches are narrowed further, but stay newest first rather than by score.
+     */
+    public ProjectFacetsDTO getFacets(String q, List<String> skills, String category) {
+        Collection<Long> candidates = q == null || q.isBlank() ? null : searchIndex.search(q).keySet();
+        return facetIndex.filter(skills, category, candidates);
+    }
 
-        return projects.stream().map(this::toDto).toList();
+    @Transactional(readOnly = true)
+    public ProjectPageDTO<ProjectResponseDTO> getPage(String cursor, int limit) {
+        return page(cursor, limit, Project.class, MAPPER::toDto, Project::getCreatedAt, Project::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectPageDTO<ProjectCardDTO> getCardPage(String cursor, int limit) {
+        return page(cursor, limit, ProjectCard.class, MAPPER::toCardDto, ProjectCard::getCreatedAt, ProjectCard::getId);
     }
 
     public ProjectResponseDTO getBySlug(String slug) {
-        Project p = repo.findBySlug(slug)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        return toDto(p);
+        return findBySlug(slug).orElseThrow(() -> new RuntimeException("Project not found"));
+    }
+
+    public Optional<ProjectResponseDTO> findBySlug(String slug) {
+        return Optional.ofNullable(readModel.current().bySlug().get(slug));
     }
 
     @Transactional
@@ -47,8 +103,11 @@ public class ProjectService {
                 .liveUrl(req.liveUrl())
                 .githubUrl(req.githubUrl())
                 .build();
+        if (req.skillIds() != null) {
+            p.setSkills(skills(req.skillIds()));
+        }
 
-        return toDto(repo.save(p));
+        return changed(MAPPER.toDto(repo.save(p)));
     }
 
     @Transactional
@@ -69,10 +128,87 @@ public class ProjectService {
         existing.setImageUrl(req.imageUrl());
         existing.setLiveUrl(req.liveUrl());
         existing.setGithubUrl(req.githubUrl());
+        if (req.skillIds() != null) {
+            existing.setSkills(skills(req.skillIds()));
+        }
 
-        return toDto(repo.save(existing));
+        return changed(MAPPER.toDto(repo.save(existing)));
     }
 
+    /**
+     * Upserts projects by slug: existing slugs are updated, new ones inserted. Invalid items and
+     * repeated slugs are rejected individually; the rest are written in one transaction.
+     */
+    @Transactional
+    public BatchResultDTO saveBatch(List<ProjectRequestDTO> items) {
+        BatchResultDTO.checkSize(items);
+
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        Set<String> slugs = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            ProjectRequestDTO req = items.get(i);
+            String error = req == null ? "Item is empty" : Violations.describe(validator, req);
+            if (error == null && !slugs.add(req.slug())) {
+                error = "Slug appears more than once in this batch: '" + req.slug() + "'";
+            }
+            if (error != null) {
+                results[i] = BatchItemResult.rejected(i, error);
+            }
+        }
+
+        // One IN query instead of an existsBySlug / findBySlug per item
+        Map<String, Project> existing = slugs.isEmpty() ? Map.of() : repo.findAllBySlugIn(slugs).stream()
+                .collect(Collectors.toMap(Project::getSlug, Function.identity()));
+
+        Set<Long> skillIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] == null && items.get(i).skillIds() != null) {
+                skillIds.addAll(items.get(i).skillIds());
+            }
+        }
+        Map<Long, Skill> knownSkills = skillIds.isEmpty() ? Map.of() : skillRepo.findAllById(skillIds).stream()
+                .collect(Collectors.toMap(Skill::getId, Function.identity()));
+
+        List<Project> toSave = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) continue;
+            ProjectRequestDTO req = items.get(i);
+            if (req.skillIds() != null && !knownSkills.keySet().containsAll(req.skillIds())) {
+                results[i] = BatchItemResult.rejected(i, "Unknown skill ids: " + unknown(req.skillIds(), knownSkills.keySet()));
+                continue;
+            }
+
+            Project p = existing.getOrDefault(req.slug(), new Project());
+            p.setTitle(req.title());
+            p.setSlug(req.slug());
+            p.setDescription(req.description());
+            p.setImageUrl(req.imageUrl());
+            p.setLiveUrl(req.liveUrl());
+            p.setGithubUrl(req.githubUrl());
+            if (req.skillIds() != null) {
+                p.setSkills(req.skillIds().stream().map(knownSkills::get).collect(Collectors.toSet()));
+            }
+
+            toSave.add(p);
+            indexes.add(i);
+        }
+
+        repo.saveAll(toSave);
+
+        for (int j = 0; j < toSave.size(); j++) {
+            int i = indexes.get(j);
+            Project p = toSave.get(j);
+            results[i] = existing.containsKey(p.getSlug())
+                    ? BatchItemResult.updated(i, p.getId())
+                    : BatchItemResult.created(i, p.getId());
+        }
+
+        if (!toSave.isEmpty()) {
+            events.publishEvent(new ContentChangedEvent(ContentType.PROJECTS, null));
+        }
+        return BatchResultDTO.of(Arrays.asList(results));
+    }
 
     @Transactional
     public void delete(Long id) {
@@ -80,18 +216,56 @@ public class ProjectService {
             throw new RuntimeException("Project not found");
         }
         repo.deleteById(id);
+        events.publishEvent(new ContentChangedEvent(ContentType.PROJECTS, id));
     }
 
-    private ProjectResponseDTO toDto(Project p) {
-        return new ProjectResponseDTO(
-                p.getId(),
-                p.getTitle(),
-                p.getSlug(),
-                p.getDescription(),
-                p.getImageUrl(),
-                p.getLiveUrl(),
-                p.getGithubUrl(),
-                p.getCreatedAt()
-        );
+    private Set<Skill> skills(List<Long> ids) {
+        List<Skill> found = skillRepo.findAllById(ids);
+        if (found.size() < new HashSet<>(ids).size()) {
+            Set<Long> known = found.stream().map(Skill::getId).collect(Collectors.toSet());
+            throw new IllegalArgumentException("Unknown skill ids: " + unknown(ids, known));
+        }
+        return new HashSet<>(found);
+    }
+
+    private static List<Long> unknown(List<Long> ids, Set<Long> known) {
+        return ids.stream().filter(id -> !known.contains(id)).distinct().toList();
+    }
+
+    private ProjectResponseDTO changed(ProjectResponseDTO dto) {
+        events.publishEvent(new ContentChangedEvent(ContentType.PROJECTS, dto.id()));
+        return dto;
+    }
+
+    private <T, R> ProjectPageDTO<R> page(
+            String cursor,
+            int limit,
+            Class<T> type,
+            Function<T, R> toDto,
+            Function<T, Instant> createdAt,
+            Function<T, Long> id
+    ) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // One extra row tells us whether there is a next page
+        Limit fetch = Limit.of(size + 1);
+
+        List<T> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repo.findAllByOrderByCreatedAtDescIdDesc(fetch, type);
+        } else {
+            ProjectCursor after = ProjectCursor.decode(cursor);
+            rows = repo.findPageAfter(after.createdAt(), after.id(), fetch, type);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new ProjectCursor(createdAt.apply(last), id.apply(last)).encode();
+        }
+
+        return new ProjectPageDTO<>(items.stream().map(toDto).toList(), nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.example.backend.project.data;
+
+import java.time.Instant;
+
+/**
+ * Closed projection with only the columns the project grid needs; Spring Data selects just these.
+ */
+public interface ProjectCard {
+    Long getId();
+    String getTitle();
+    String getSlug();
+    String getImageUrl();
+    Instant getCreatedAt();
+}
@@ -1,14 +1,43 @@
 package com.example.backend.project.data;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findBySlug(String slug);
-    List<Project> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String title);
-    List<Project> findAllByOrderByCreatedAtDesc();
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "projects-lists")
+    })
+    List<Project> findAllByOrderByCreatedAtDescIdDesc();
     boolean existsBySlug(String slug);
+    List<Project> findAllBySlugIn(Collection<String> slugs);
 
+    // Keyset pages on (created_at, id), both served by idx_projects_created_at_id
+    <T> List<T> findAllByOrderByCreatedAtDescIdDesc(Limit limit, Class<T> type);
+    <T> List<T> findByCreatedAtLessThanOrCreatedAtAndIdLessThanOrderByCreatedAtDescIdDesc(
+            Instant createdAt, Instant sameCreatedAt, Long id, Limit limit, Class<T> type);
+
+    default <T> List<T> findPageAfter(Instant createdAt, Long id, Limit limit, Class<T> type) {
+        return findByCreatedAtLessThanOrCreatedAtAndIdLessThanOrderByCreatedAtDescIdDesc(createdAt, createdAt, id, limit, type);
+    }
+
+    // Rows are read with a JDBC fetch size instead of materializing the whole table (used by export)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select p from Project p order by p.id")
+    Stream<Project> streamAll();
 }
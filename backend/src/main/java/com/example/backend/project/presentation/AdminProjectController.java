@@ -1,11 +1,14 @@
 package com.example.backend.project.presentation;
 
+import com.example.backend.batch.BatchResultDTO;
 import com.example.backend.project.business.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin/projects")
 @RequiredArgsConstructor
@@ -19,6 +22,12 @@ public class AdminProjectController {
         return service.create(req);
     }
 
+    // Items are validated one by one; see BatchResultDTO for the per-item outcome
+    @PostMapping("/batch")
+    public BatchResultDTO createOrUpdateBatch(@RequestBody List<ProjectRequestDTO> items) {
+        return service.saveBatch(items);
+    }
+
     @PutMapping("/{id}")
     public ProjectResponseDTO update(@PathVariable Long id, @Valid @RequestBody ProjectRequestDTO req) {
         return service.update(id, req);
@@ -0,0 +1,11 @@
+package com.example.backend.project.presentation;
+
+import java.time.Instant;
+
+public record ProjectCardDTO(
+        Long id,
+        String title,
+        String slug,
+        String imageUrl,
+        Instant createdAt
+) {}
@@ -1,8 +1,16 @@
 package com.example.backend.project.presentation;
 
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
+import com.example.backend.content.EncodedBody;
+import com.example.backend.content.EncodedBodyCache;
 import com.example.backend.project.business.ProjectService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -12,16 +20,77 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService service;
+    private final ContentVersions versions;
+    private final EncodedBodyCache bodies;
 
     // GET /api/projects?q=tracker
+    // GET /api/projects?skills=React,Java&category=FrontEnd
     @GetMapping
-    public List<ProjectResponseDTO> list(@RequestParam(required = false) String q) {
-        return service.getProjects(q);
+    public ResponseEntity<?> list(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String category,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        if (skills != null || category != null) {
+            // Facets also carry skill names and categories
+            if (versions.checkNotModified(request, ContentType.PROJECTS, ContentType.SKILLS)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(service.getFacets(q, skills, category));
+        }
+
+        // The unfiltered list is the same for every client, so it is served pre-compressed
+        if (q == null || q.isBlank()) {
+            String etag = versions.etag(ContentType.PROJECTS);
+            if (request.checkNotModified(EncodedBody.etag(etag, acceptEncoding), versions.lastModified(ContentType.PROJECTS))) {
+                return null;
+            }
+            return bodies.get("projects", etag, () -> service.getProjects(null)).toResponse(acceptEncoding);
+        }
+
+        if (versions.checkNotModified(request, ContentType.PROJECTS)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(service.getProjects(q));
+    }
+
+    // GET /api/projects?limit=12&cursor=...&fields=card
+    @GetMapping(params = {"limit", "!q"})
+    public ResponseEntity<ProjectPageDTO<?>> page(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "full") String fields,
+            WebRequest request
+    ) {
+        if (versions.checkNotModified(request, ContentType.PROJECTS)) {
+            return null;
+        }
+
+        ProjectPageDTO<?> page = switch (fields) {
+            case "full" -> service.getPage(cursor, limit);
+            case "card" -> service.getCardPage(cursor, limit);
+            default -> throw new IllegalArgumentException("fields must be 'full' or 'card'");
+        };
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(page);
     }
 
     // GET /api/projects/{slug}
     @GetMapping("/{slug}")
-    public ProjectResponseDTO bySlug(@PathVariable String slug) {
-        return service.getBySlug(slug);
+    public ResponseEntity<ProjectResponseDTO> bySlug(@PathVariable String slug, WebRequest request) {
+        if (versions.checkNotModified(request, ContentType.PROJECTS)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(service.getBySlug(slug));
     }
 }
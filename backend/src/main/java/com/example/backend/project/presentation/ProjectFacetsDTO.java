@@ -0,0 +1,17 @@
+package com.example.backend.project.presentation;
+
+import java.util.List;
+
+/**
+ * Filtered projects with, for every skill and category, how many of them it matches.
+ */
+public record ProjectFacetsDTO(
+        List<ProjectResponseDTO> projects,
+        List<SkillFacet> skills,
+        List<CategoryFacet> categories
+) {
+
+    public record SkillFacet(Long id, String category, String name, int count) {}
+
+    public record CategoryFacet(String name, int count) {}
+}
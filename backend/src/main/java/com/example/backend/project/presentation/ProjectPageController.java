@@ -0,0 +1,43 @@
+package com.example.backend.project.presentation;
+
+import com.example.backend.content.EncodedBody;
+import com.example.backend.project.business.ProjectPageRenderer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+@Controller
+@RequiredArgsConstructor
+public class ProjectPageController {
+
+    private static final MediaType HTML = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final ProjectPageRenderer renderer;
+
+    // GET /projects/dm-creations
+    @GetMapping("/projects/{slug}")
+    public ResponseEntity<byte[]> page(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        ProjectPageRenderer.Page page = renderer.page(slug);
+        // An HTML route, so not the JSON error body the API answers with
+        if (page == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(HTML).body(renderer.notFound());
+        }
+        if (request.checkNotModified(EncodedBody.etag(page.etag(), acceptEncoding))) {
+            return null;
+        }
+        return page.body().toResponse(acceptEncoding, HTML);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.backend.project.presentation;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record ProjectPageDTO<T>(
+        List<T> items,
+        String nextCursor
+) {}
@@ -2,11 +2,15 @@ package com.example.backend.project.presentation;
 
 import jakarta.validation.constraints.NotBlank;
 
+import java.util.List;
+
 public record ProjectRequestDTO(
         @NotBlank String title,
         @NotBlank String slug,
         @NotBlank String description,
         String imageUrl,
         String liveUrl,
-        String githubUrl
+        String githubUrl,
+        // Null leaves the project's skills unchanged
+        List<Long> skillIds
 ) {}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.backend.project.presentation;
 
 import java.time.Instant;
+import java.util.List;
 
 public record ProjectResponseDTO(
         Long id,
@@ -10,5 +11,6 @@ public record ProjectResponseDTO(
         String imageUrl,
         String liveUrl,
         String githubUrl,
-        Instant createdAt
+        Instant createdAt,
+        List<Long> skillIds
 ) {}
\ No newline at end of file
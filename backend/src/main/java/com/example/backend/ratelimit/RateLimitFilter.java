@@ -0,0 +1,84 @@
+package com.example.backend.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link RateLimiter} to /api/**: 429 with Retry-After when the client's bucket is empty,
+ * 503 when every search slot is busy. Added to the security chain right after CORS, so rejected
+ * responses still carry CORS headers and floods are cut off before authentication.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.isEnabled()
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RouteGroup group = RouteGroup.of(request);
+
+        long waitNanos = limiter.tryAcquire(group, request.getRemoteAddr());
+        if (waitNanos > 0) {
+            limiter.rejected(group, "rate");
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)),
+                    "Too many requests, retry later");
+            return;
+        }
+
+        if (group != RouteGroup.SEARCH) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Shed searches early so they cannot pile up on H2 and slow down cached reads
+        if (!limiter.tryEnterSearch()) {
+            limiter.rejected(group, "concurrency");
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Search is busy, retry later");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.exitSearch();
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", Instant.now(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", message
+        ));
+    }
+}
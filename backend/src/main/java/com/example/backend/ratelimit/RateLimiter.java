@@ -0,0 +1,96 @@
+package com.example.backend.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token buckets for each {@link RouteGroup}, plus a cap on concurrent searches.
+ * At most {@code max-tracked-clients} buckets are kept; full buckets are dropped first, and
+ * clients that still do not fit share one bucket per group until space frees up.
+ */
+@Component
+public class RateLimiter {
+
+    private record Key(RouteGroup group, String client) {}
+
+    private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final int maxTrackedClients;
+    private final Map<RouteGroup, TokenBucket.Limit> limits = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, TokenBucket> overflow = new EnumMap<>(RouteGroup.class);
+    private final Map<Key, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final Semaphore searches;
+    private final MeterRegistry registry;
+
+    public RateLimiter(Environment env, MeterRegistry registry) {
+        this.registry = registry;
+        this.enabled = env.getProperty("app.rate-limit.enabled", Boolean.class, true);
+        this.maxTrackedClients = env.getProperty("app.rate-limit.max-tracked-clients", Integer.class, 100_000);
+        this.searches = new Semaphore(env.getProperty("app.rate-limit.search.max-concurrent", Integer.class, 8));
+
+        long now = System.nanoTime();
+        for (RouteGroup group : RouteGroup.values()) {
+            String prefix = "app.rate-limit." + group.name().toLowerCase(Locale.ROOT).replace('_', '-');
+            TokenBucket.Limit limit = new TokenBucket.Limit(
+                    env.getRequiredProperty(prefix + ".capacity", Integer.class),
+                    env.getRequiredProperty(prefix + ".per-second", Double.class));
+            limits.put(group, limit);
+            overflow.put(group, new TokenBucket(limit, now));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes one token from the client's bucket for the group. Returns 0 when the request may
+     * proceed, otherwise the nanoseconds until it could.
+     */
+    public long tryAcquire(RouteGroup group, String client) {
+        long now = System.nanoTime();
+        Key key = new Key(group, client);
+
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedClients) {
+                sweep(now);
+            }
+            bucket = buckets.size() < maxTrackedClients
+                    ? buckets.computeIfAbsent(key, k -> new TokenBucket(limits.get(group), now))
+                    : overflow.get(group);
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /** Admission for the search path: fails immediately instead of queueing once all slots are busy. */
+    public boolean tryEnterSearch() {
+        return searches.tryAcquire();
+    }
+
+    public void exitSearch() {
+        searches.release();
+    }
+
+    void rejected(RouteGroup group, String reason) {
+        registry.counter("http.server.requests.rejected",
+                "group", group.name().toLowerCase(Locale.ROOT), "reason", reason).increment();
+    }
+
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL || !lastSweep.compareAndSet(last, now)) return;
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
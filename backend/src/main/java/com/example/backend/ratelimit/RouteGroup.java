@@ -0,0 +1,25 @@
+package com.example.backend.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Requests are limited per client and group, so a search flood cannot use up the budget for
+ * cached reads, and neither can starve admin writes.
+ */
+public enum RouteGroup {
+    PUBLIC_READ,
+    SEARCH,
+    ADMIN_WRITE;
+
+    static RouteGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/admin/")) {
+            return ADMIN_WRITE;
+        }
+        String q = request.getParameter("q");
+        if (path.equals("/api/projects") && q != null && !q.isBlank()) {
+            return SEARCH;
+        }
+        return PUBLIC_READ;
+    }
+}
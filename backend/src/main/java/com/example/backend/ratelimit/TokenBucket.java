@@ -0,0 +1,51 @@
+package com.example.backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: the state is one immutable value swapped with compare-and-set, so
+ * concurrent requests from the same client never block each other.
+ */
+final class TokenBucket {
+
+    record Limit(int capacity, double perSecond) {}
+
+    private record State(double tokens, long refilledAt) {}
+
+    private final double capacity;
+    private final double perNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(Limit limit, long now) {
+        this.capacity = limit.capacity();
+        this.perNano = limit.perSecond() / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * Takes a token and returns 0, or returns the nanoseconds until the next token if the bucket
+     * is empty.
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, now);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / perNano);
+            }
+            State next = new State(tokens - 1, Math.max(now, current.refilledAt()));
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** A full bucket behaves exactly like a new one, so it can be dropped without losing anything. */
+    boolean isFull(long now) {
+        return available(state.get(), now) >= capacity;
+    }
+
+    private double available(State s, long now) {
+        return Math.min(capacity, s.tokens() + Math.max(0, now - s.refilledAt()) * perNano);
+    }
+}
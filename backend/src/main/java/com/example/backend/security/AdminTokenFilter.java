@@ -0,0 +1,52 @@
+package com.example.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates {@code Authorization: Bearer <token>} requests from {@link AdminTokenService}
+ * without a user lookup. Anything else falls through to HTTP Basic.
+ */
+@RequiredArgsConstructor
+class AdminTokenFilter extends OncePerRequestFilter {
+
+    static final String ISSUE_PATH = "/api/admin/auth-check";
+
+    private static final String BEARER = "Bearer ";
+
+    private final AdminTokenService tokens;
+
+    // Tokens are issued for the password only, so a stolen token cannot be renewed past its expiry
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length()).equals(ISSUE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith(BEARER)) {
+            tokens.verify(header.substring(BEARER.length()).trim()).ifPresent(username -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        username, null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+                SecurityContextHolder.setContext(context);
+            });
+        }
+
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies short-lived admin session tokens: {@code base64url(username:expiry).base64url(hmac)}.
+ * Verification is a single HMAC plus a constant-time compare, so admin calls no longer go
+ * through the password encoder after login.
+ */
+@Component
+public class AdminTokenService {
+
+    public record IssuedToken(String token, Instant expiresAt) {}
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final Duration ttl;
+
+    public AdminTokenService(
+            @Value("${app.admin.token-secret:}") String secret,
+            @Value("${app.admin.token-ttl:30m}") Duration ttl
+    ) throws GeneralSecurityException {
+        // Without a configured secret every restart (and every replica) signs with its own random key
+        byte[] key = secret.isBlank() ? randomKey() : secret.getBytes(StandardCharsets.UTF_8);
+        this.prototype = Mac.getInstance(ALGORITHM);
+        this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        this.ttl = ttl;
+    }
+
+    public IssuedToken issue(String username) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        String payload = ENCODER.encodeToString((username + ":" + expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(payload + "." + ENCODER.encodeToString(sign(payload)), expiresAt);
+    }
+
+    /**
+     * Returns the username the token was issued to, or empty if it is malformed, forged or expired.
+     */
+    public Optional<String> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) return Optional.empty();
+
+        String payload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) return Optional.empty();
+
+            String decoded = new String(DECODER.decode(payload), StandardCharsets.UTF_8);
+            int sep = decoded.lastIndexOf(':');
+            long expiresAt = Long.parseLong(decoded.substring(sep + 1));
+            if (Instant.now().getEpochSecond() >= expiresAt) return Optional.empty();
+
+            return Optional.of(decoded.substring(0, sep));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            // Mac is not thread-safe; cloning the initialized prototype is much cheaper than init()
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
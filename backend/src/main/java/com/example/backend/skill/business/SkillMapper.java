@@ -0,0 +1,18 @@
+package com.example.backend.skill.business;
+
+import com.example.backend.skill.data.Skill;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+@Mapper
+public interface SkillMapper {
+
+    SkillMapper INSTANCE = Mappers.getMapper(SkillMapper.class);
+
+    SkillResponseDTO toDto(Skill skill);
+
+    List<SkillResponseDTO> toDtos(List<Skill> skills);
+}
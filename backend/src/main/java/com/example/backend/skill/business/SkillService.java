@@ -1,35 +1,132 @@
 package com.example.backend.skill.business;
 
+import com.example.backend.batch.BatchItemResult;
+import com.example.backend.batch.BatchResultDTO;
+import com.example.backend.batch.Violations;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
 import com.example.backend.skill.data.Skill;
 import com.example.backend.skill.data.SkillRepository;
+import com.example.backend.skill.presentation.SkillRequestDTO;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SkillService {
 
     private final SkillRepository repo;
+    private final ApplicationEventPublisher events;
+    private final Validator validator;
 
-    public List<Skill> list() {
-        return repo.findAllByOrderByCategoryAscSortOrderAsc();
+    @Transactional(readOnly = true)
+    public List<SkillResponseDTO> list() {
+        return SkillMapper.INSTANCE.toDtos(repo.findAllByOrderByCategoryAscSortOrderAsc());
     }
 
-    public Skill create(Skill s) {
-        return repo.save(s);
+    @Transactional
+    public SkillResponseDTO create(SkillRequestDTO req) {
+        Skill s = Skill.builder()
+                .category(req.category())
+                .name(req.name())
+                .sortOrder(req.sortOrder())
+                .build();
+        return changed(repo.save(s));
     }
 
-    public Skill update(Long id, Skill updated) {
+    @Transactional
+    public SkillResponseDTO update(Long id, SkillRequestDTO req) {
         Skill existing = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Skill not found"));
-        existing.setCategory(updated.getCategory());
-        existing.setName(updated.getName());
-        existing.setSortOrder(updated.getSortOrder());
-        return repo.save(existing);
+        existing.setCategory(req.category());
+        existing.setName(req.name());
+        existing.setSortOrder(req.sortOrder());
+        return changed(repo.save(existing));
     }
 
+    /**
+     * Upserts skills by (category, name): existing pairs get the new sortOrder, new ones are inserted.
+     */
+    @Transactional
+    public BatchResultDTO saveBatch(List<SkillRequestDTO> items) {
+        BatchResultDTO.checkSize(items);
+
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        Set<String> keys = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            SkillRequestDTO s = items.get(i);
+            String error = s == null ? "Item is empty" : Violations.describe(validator, s);
+            if (error == null && !keys.add(key(s.category(), s.name()))) {
+                error = "Skill appears more than once in this batch: " + s.category() + " / " + s.name();
+            }
+            if (error != null) {
+                results[i] = BatchItemResult.rejected(i, error);
+            } else {
+                names.add(s.name());
+            }
+        }
+
+        Map<String, Skill> existing = names.isEmpty() ? Map.of() : repo.findAllByNameIn(names).stream()
+                .collect(Collectors.toMap(SkillService::key, Function.identity(), (a, b) -> a));
+
+        List<Skill> toSave = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) continue;
+            SkillRequestDTO s = items.get(i);
+
+            Skill target = existing.get(key(s.category(), s.name()));
+            if (target == null) {
+                target = Skill.builder().category(s.category()).name(s.name()).build();
+            }
+            target.setSortOrder(s.sortOrder());
+
+            toSave.add(target);
+            indexes.add(i);
+        }
+
+        repo.saveAll(toSave);
+
+        for (int j = 0; j < toSave.size(); j++) {
+            int i = indexes.get(j);
+            Skill s = toSave.get(j);
+            results[i] = existing.containsKey(key(s))
+                    ? BatchItemResult.updated(i, s.getId())
+                    : BatchItemResult.created(i, s.getId());
+        }
+
+        if (!toSave.isEmpty()) {
+            events.publishEvent(new ContentChangedEvent(ContentType.SKILLS, null));
+        }
+        return BatchResultDTO.of(Arrays.asList(results));
+    }
+
+    @Transactional
     public void delete(Long id) {
         repo.deleteById(id);
+        events.publishEvent(new ContentChangedEvent(ContentType.SKILLS, id));
+        // project_skills rows go with it (ON DELETE CASCADE), behind Hibernate's back
+        events.publishEvent(new ContentChangedEvent(ContentType.PROJECTS, null));
+    }
+
+    private static String key(Skill s) {
+        return key(s.getCategory(), s.getName());
+    }
+
+    private static String key(String category, String name) {
+        return category + "\u0000" + name;
+    }
+
+    private SkillResponseDTO changed(Skill s) {
+        events.publishEvent(new ContentChangedEvent(ContentType.SKILLS, s.getId()));
+        return SkillMapper.INSTANCE.toDto(s);
     }
 }
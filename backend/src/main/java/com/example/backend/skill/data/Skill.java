@@ -2,8 +2,12 @@ package com.example.backend.skill.data;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skills")
 @Table(
         name = "skills",
         uniqueConstraints = @UniqueConstraint(name = "uk_skill_category_name", columnNames = {"category", "name"})
@@ -13,7 +17,8 @@ import lombok.*;
 public class Skill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_seq")
+    @SequenceGenerator(name = "skills_seq", sequenceName = "skills_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
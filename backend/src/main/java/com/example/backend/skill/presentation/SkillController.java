@@ -1,9 +1,13 @@
 package com.example.backend.skill.presentation;
 
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
 import com.example.backend.skill.business.SkillService;
-import com.example.backend.skill.data.Skill;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,9 +17,15 @@ import java.util.List;
 public class SkillController {
 
     private final SkillService service;
+    private final ContentVersions versions;
 
     @GetMapping
-    public List<Skill> list() {
-        return service.list();
+    public ResponseEntity<List<SkillResponseDTO>> list(WebRequest request) {
+        if (versions.checkNotModified(request, ContentType.SKILLS)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(service.list());
     }
 }
@@ -0,0 +1,10 @@
+package com.example.backend.skill.presentation;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record SkillRequestDTO(
+        @NotBlank String category,
+        @NotBlank String name,
+        @NotNull Integer sortOrder
+) {}
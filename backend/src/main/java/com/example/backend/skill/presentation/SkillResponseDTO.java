@@ -0,0 +1,8 @@
+package com.example.backend.skill.presentation;
+
+public record SkillResponseDTO(
+        Long id,
+        String category,
+        String name,
+        Integer sortOrder
+) {}
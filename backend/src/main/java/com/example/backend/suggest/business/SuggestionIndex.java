@@ -0,0 +1,188 @@
+package com.example.backend.suggest.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.business.ProjectReadModel;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import com.example.backend.suggest.presentation.SuggestionDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Autocomplete over project titles and skill names. Every word start of a label is a key, so
+ * "track" finds "Portfolio Tracker". The trie is filled in the background once the application is
+ * ready, so startup time does not grow with the data, and patched per changed row after each write.
+ * Requests only ever read memory; until the first fill completes they get no suggestions.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ProjectReadModel readModel;
+    private final SkillService skillService;
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // "project:<id>" / "skill:<id>" -> what is currently in the trie for that row
+    private final Map<String, SuggestionTrie.Entry> indexed = new HashMap<>();
+    private volatile boolean loaded;
+
+    public SuggestionIndex(ProjectReadModel readModel, SkillService skillService) {
+        this.readModel = readModel;
+        this.skillService = skillService;
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+        if (!loaded) return List.of();
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<Map.Entry<SuggestionTrie.Entry, Integer>> matches;
+        lock.readLock().lock();
+        try {
+            matches = trie.search(key, maxEdits(key), max);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .map(m -> new SuggestionDTO(m.getKey().type(), m.getKey().label(), m.getKey().slug(), m.getValue()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUp() {
+        Thread t = new Thread(() -> {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.warn("Could not fill the suggestion index, it will be filled on the next change", e);
+            }
+        }, "suggestion-warm-up");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    synchronized void load() {
+        if (loaded) return;
+        syncProjects();
+        syncSkills();
+        loaded = true;
+    }
+
+    // After the read model, so a changed project is already in its snapshot
+    @Order(3)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        // Not filled yet, or the warm-up failed: filling reads the latest data anyway
+        if (!loaded) {
+            load();
+            return;
+        }
+
+        if (event.type() == ContentType.PROJECTS) {
+            if (event.id() == null) {
+                syncProjects();
+            } else {
+                ProjectResponseDTO p = readModel.current().byId().get(event.id());
+                update("project:" + event.id(), p == null ? null
+                        : new SuggestionTrie.Entry(SuggestionDTO.Type.PROJECT, p.title(), p.slug()));
+            }
+        } else if (event.type() == ContentType.SKILLS) {
+            // Few rows and no lookup by id in SkillService; only the rows that differ touch the trie
+            syncSkills();
+        }
+    }
+
+    private void syncProjects() {
+        Map<String, SuggestionTrie.Entry> entries = new HashMap<>();
+        for (ProjectResponseDTO p : readModel.current().projects()) {
+            entries.put("project:" + p.id(), new SuggestionTrie.Entry(SuggestionDTO.Type.PROJECT, p.title(), p.slug()));
+        }
+        sync("project:", entries);
+    }
+
+    private void syncSkills() {
+        Map<String, SuggestionTrie.Entry> entries = new HashMap<>();
+        for (SkillResponseDTO s : skillService.list()) {
+            entries.put("skill:" + s.id(), new SuggestionTrie.Entry(SuggestionDTO.Type.SKILL, s.name(), null));
+        }
+        sync("skill:", entries);
+    }
+
+    private void sync(String kind, Map<String, SuggestionTrie.Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            List<String> gone = indexed.keySet().stream()
+                    .filter(id -> id.startsWith(kind) && !entries.containsKey(id))
+                    .toList();
+            gone.forEach(id -> update(id, null));
+            entries.forEach(this::update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(String id, SuggestionTrie.Entry entry) {
+        lock.writeLock().lock();
+        try {
+            SuggestionTrie.Entry previous = indexed.get(id);
+            if (Objects.equals(previous, entry)) return;
+
+            if (previous != null) {
+                keys(previous.label()).forEach(key -> trie.remove(key, previous));
+                indexed.remove(id);
+            }
+            if (entry != null) {
+                keys(entry.label()).forEach(key -> trie.add(key, entry));
+                indexed.put(id, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The whole label, then the rest of it from each following word: "spring boot api" -> also "boot api", "api"
+    private static Set<String> keys(String label) {
+        String normalized = normalize(label);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(folded).replaceAll(" ").trim();
+    }
+
+    // Short prefixes would match nearly everything with a typo allowed
+    private static int maxEdits(String key) {
+        if (key.length() <= 2) return 0;
+        if (key.length() <= 5) return 1;
+        return 2;
+    }
+}
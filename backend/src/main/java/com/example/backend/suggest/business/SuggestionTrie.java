@@ -0,0 +1,180 @@
+package com.example.backend.suggest.business;
+
+import com.example.backend.suggest.presentation.SuggestionDTO;
+
+import java.util.*;
+
+/**
+ * Prefix tree over normalized labels. Children are kept in sorted parallel arrays rather than maps.
+ * Not thread-safe; {@link SuggestionIndex} guards it.
+ */
+final class SuggestionTrie {
+
+    record Entry(SuggestionDTO.Type type, String label, String slug) {}
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    // Closest first, then alphabetically
+    private static final Comparator<Map.Entry<Entry, Integer>> RANKING = Map.Entry.<Entry, Integer>comparingByValue()
+            .thenComparing(e -> e.getKey().label(), String.CASE_INSENSITIVE_ORDER);
+
+    private static final class Node {
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        List<Entry> entries = List.of();
+        int size; // entries in this subtree, to prune empty branches on removal
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) return children[i];
+
+            int at = -i - 1;
+            char[] l = new char[labels.length + 1];
+            Node[] n = new Node[children.length + 1];
+            System.arraycopy(labels, 0, l, 0, at);
+            System.arraycopy(children, 0, n, 0, at);
+            l[at] = c;
+            n[at] = new Node();
+            System.arraycopy(labels, at, l, at + 1, labels.length - at);
+            System.arraycopy(children, at, n, at + 1, children.length - at);
+            labels = l;
+            children = n;
+            return n[at];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i < 0) return;
+            char[] l = new char[labels.length - 1];
+            Node[] n = new Node[children.length - 1];
+            System.arraycopy(labels, 0, l, 0, i);
+            System.arraycopy(children, 0, n, 0, i);
+            System.arraycopy(labels, i + 1, l, i, labels.length - i - 1);
+            System.arraycopy(children, i + 1, n, i, children.length - i - 1);
+            labels = l;
+            children = n;
+        }
+    }
+
+    private final Node root = new Node();
+
+    void add(String key, Entry entry) {
+        Node node = root;
+        node.size++;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.addChild(key.charAt(i));
+            node.size++;
+        }
+        List<Entry> entries = new ArrayList<>(node.entries);
+        entries.add(entry);
+        node.entries = entries;
+    }
+
+    void remove(String key, Entry entry) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) return;
+        }
+
+        Node leaf = path[key.length()];
+        List<Entry> entries = new ArrayList<>(leaf.entries);
+        if (!entries.remove(entry)) return;
+        leaf.entries = entries.isEmpty() ? List.of() : entries;
+
+        for (int i = key.length(); i >= 0; i--) {
+            path[i].size--;
+            if (i > 0 && path[i].size == 0) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Entries whose key starts with something within {@code maxEdits} edits (Levenshtein) of
+     * {@code prefix}, closest first and then alphabetically, at most {@code limit} of them.
+     */
+    List<Map.Entry<Entry, Integer>> search(String prefix, int maxEdits, int limit) {
+        Matches matches = new Matches(maxEdits, limit);
+        int[] row = new int[prefix.length() + 1];
+        for (int i = 0; i < row.length; i++) row[i] = i;
+
+        walk(root, prefix, row, maxEdits, matches);
+
+        // Keys are not in label order, so the top N are only known once every candidate is in
+        PriorityQueue<Map.Entry<Entry, Integer>> top = new PriorityQueue<>(RANKING.reversed());
+        for (Map.Entry<Entry, Integer> match : matches.best.entrySet()) {
+            top.add(match);
+            if (top.size() > limit) top.poll();
+        }
+        List<Map.Entry<Entry, Integer>> result = new ArrayList<>(top);
+        result.sort(RANKING);
+        return result;
+    }
+
+    // Best distance per entry, as one entry is reachable from several keys, and how many entries
+    // have each distance
+    private static final class Matches {
+        final Map<Entry, Integer> best = new HashMap<>();
+        final int[] byDistance;
+        final int limit;
+
+        Matches(int maxEdits, int limit) {
+            this.byDistance = new int[maxEdits + 1];
+            this.limit = limit;
+        }
+
+        void add(Entry entry, int distance) {
+            Integer previous = best.get(entry);
+            if (previous != null && previous <= distance) return;
+            if (previous != null) byDistance[previous]--;
+            best.put(entry, distance);
+            byDistance[distance]++;
+        }
+
+        // Entries at this distance cannot make the top N once N strictly closer ones are known
+        boolean full(int distance) {
+            int closer = 0;
+            for (int d = 0; d < distance; d++) closer += byDistance[d];
+            return closer >= limit;
+        }
+    }
+
+    // One Levenshtein DP row per trie level; a branch is dropped once every cell exceeds maxEdits
+    private static void walk(Node node, String prefix, int[] row, int maxEdits, Matches matches) {
+        int distance = row[prefix.length()];
+        if (distance <= maxEdits && !matches.full(distance)) {
+            collect(node, distance, matches);
+        }
+
+        for (int c = 0; c < node.labels.length; c++) {
+            char label = node.labels[c];
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int i = 1; i < row.length; i++) {
+                int substitute = row[i - 1] + (prefix.charAt(i - 1) == label ? 0 : 1);
+                next[i] = Math.min(substitute, Math.min(row[i] + 1, next[i - 1] + 1));
+                min = Math.min(min, next[i]);
+            }
+            if (min <= maxEdits) {
+                walk(node.children[c], prefix, next, maxEdits, matches);
+            }
+        }
+    }
+
+    private static void collect(Node node, int distance, Matches matches) {
+        for (Entry entry : node.entries) {
+            matches.add(entry, distance);
+        }
+        for (Node child : node.children) {
+            collect(child, distance, matches);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.suggest.presentation;
+
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
+import com.example.backend.suggest.business.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestionIndex index;
+    private final ContentVersions versions;
+
+    // GET /api/suggest?prefix=jav&limit=8
+    @GetMapping
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit,
+            WebRequest request
+    ) {
+        if (versions.checkNotModified(request, ContentType.PROJECTS, ContentType.SKILLS)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(index.suggest(prefix, limit));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.suggest.presentation;
+
+/**
+ * One autocomplete entry. {@code slug} is set for projects only; {@code distance} is the number
+ * of typos between the typed prefix and the label.
+ */
+public record SuggestionDTO(Type type, String label, String slug, int distance) {
+
+    public enum Type { PROJECT, SKILL }
+}
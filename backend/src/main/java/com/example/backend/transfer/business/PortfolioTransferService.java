@@ -0,0 +1,333 @@
+package com.example.backend.transfer.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.education.business.EducationMapper;
+import com.example.backend.education.data.Education;
+import com.example.backend.education.data.EducationRepository;
+import com.example.backend.experience.business.ExperienceMapper;
+import com.example.backend.experience.data.ExperienceRepository;
+import com.example.backend.experience.presentation.ExperienceRequestDTO;
+import com.example.backend.project.data.Project;
+import com.example.backend.project.data.ProjectRepository;
+import com.example.backend.skill.business.SkillMapper;
+import com.example.backend.skill.data.Skill;
+import com.example.backend.skill.data.SkillRepository;
+import com.example.backend.transfer.presentation.ImportResultDTO;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Whole-dataset backup as NDJSON, one {@code {"type": ..., "data": ...}} object per line.
+ * Export streams rows from the database and import writes fixed-size JDBC batches, so memory
+ * use does not depend on the size of the dataset.
+ * <p>
+ * Ids differ between databases, so a project names its skills by (category, name); skills are
+ * exported before projects so the import can resolve them.
+ */
+@Slf4j
+@Service
+public class PortfolioTransferService {
+
+    private record Line(String type, Object data) {}
+
+    record SkillKey(String category, String name) {}
+
+    record ProjectLine(
+            String title,
+            String slug,
+            String description,
+            String imageUrl,
+            String liveUrl,
+            String githubUrl,
+            Instant createdAt,
+            List<SkillKey> skills
+    ) {}
+
+    private record Link(long projectId, SkillKey skill) {}
+
+    /** Rows of one type waiting for their batch; for projects also the skill links they replace. */
+    private static final class Chunk {
+        final List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+        final List<Object[]> relinked = new ArrayList<>();
+        final List<Object[]> links = new ArrayList<>();
+    }
+
+    private static final int CHUNK_SIZE = 500;
+
+    // Imports upsert on each table's natural key, so importing the same file twice changes nothing
+    private static final String MERGE_PROJECT = """
+            MERGE INTO projects (title, slug, description, image_url, live_url, github_url, created_at)
+            KEY (slug) VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    // Experiences have no unique key in the schema; (company, position, start year) tells them apart here
+    private static final String MERGE_EXPERIENCE = """
+            MERGE INTO experience (company, position, start_year, end_year, is_present, summary, sort_order)
+            KEY (company, position, start_year) VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String MERGE_EDUCATION = """
+            MERGE INTO education (level, school, program, status, completed_year, sort_order)
+            KEY (level, school, program) VALUES (?, ?, ?, ?, ?, ?)""";
+    private static final String MERGE_SKILL = """
+            MERGE INTO skills (category, name, sort_order)
+            KEY (category, name) VALUES (?, ?, ?)""";
+    private static final String UNLINK_PROJECT = """
+            DELETE FROM project_skills WHERE project_id = (SELECT id FROM projects WHERE slug = ?)""";
+    private static final String LINK_PROJECT = """
+            INSERT INTO project_skills (project_id, skill_id)
+            SELECT p.id, s.id FROM projects p, skills s WHERE p.slug = ? AND s.category = ? AND s.name = ?""";
+    private static final String EXPORT_LINKS = """
+            SELECT ps.project_id, s.category, s.name FROM project_skills ps JOIN skills s ON s.id = ps.skill_id
+            ORDER BY ps.project_id, s.category, s.name""";
+
+    private final ProjectRepository projects;
+    private final ExperienceRepository experiences;
+    private final EducationRepository educations;
+    private final SkillRepository skills;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate readTx;
+    private final TransactionTemplate writeTx;
+
+    private final Map<String, ObjectReader> readers;
+
+    public PortfolioTransferService(
+            ProjectRepository projects,
+            ExperienceRepository experiences,
+            EducationRepository educations,
+            SkillRepository skills,
+            EntityManager entityManager,
+            JdbcTemplate jdbc,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher events,
+            PlatformTransactionManager txManager
+    ) {
+        this.projects = projects;
+        this.experiences = experiences;
+        this.educations = educations;
+        this.skills = skills;
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.events = events;
+        this.readTx = new TransactionTemplate(txManager);
+        this.readTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(txManager);
+
+        this.readers = Map.of(
+                "project", reader(ProjectLine.class),
+                "experience", reader(ExperienceRequestDTO.class),
+                "education", reader(Education.class),
+                "skill", reader(Skill.class)
+        );
+    }
+
+    public void exportTo(OutputStream out) {
+        readTx.executeWithoutResult(status -> {
+            try (Stream<?> rows = skills.streamAll().map(SkillMapper.INSTANCE::toDto)) {
+                write(out, "skill", rows);
+            }
+            try (Stream<Project> rows = projects.streamAll();
+                 Stream<Link> links = jdbc.queryForStream(EXPORT_LINKS, (rs, n) ->
+                         new Link(rs.getLong(1), new SkillKey(rs.getString(2), rs.getString(3))))) {
+                write(out, "project", withSkills(rows, links.iterator()));
+            }
+            try (Stream<?> rows = experiences.streamAll().map(ExperienceMapper.INSTANCE::toDto)) {
+                write(out, "experience", rows);
+            }
+            try (Stream<?> rows = educations.streamAll().map(EducationMapper.INSTANCE::toDto)) {
+                write(out, "education", rows);
+            }
+        });
+    }
+
+    // Both are ordered by project id, so one pass pairs them without loading the lazy skill sets
+    private static Stream<ProjectLine> withSkills(Stream<Project> rows, Iterator<Link> links) {
+        Link[] next = {links.hasNext() ? links.next() : null};
+        return rows.map(p -> {
+            List<SkillKey> keys = new ArrayList<>();
+            while (next[0] != null && next[0].projectId() <= p.getId()) {
+                if (next[0].projectId() == p.getId()) keys.add(next[0].skill());
+                next[0] = links.hasNext() ? links.next() : null;
+            }
+            return new ProjectLine(p.getTitle(), p.getSlug(), p.getDescription(), p.getImageUrl(),
+                    p.getLiveUrl(), p.getGithubUrl(), p.getCreatedAt(), keys);
+        });
+    }
+
+    /**
+     * Reads the NDJSON stream line by line and writes every {@value #CHUNK_SIZE} rows of a type in
+     * their own transaction. A malformed line stops the import; chunks written before it stay.
+     */
+    public ImportResultDTO importFrom(InputStream in) throws IOException {
+        Map<String, Chunk> pending = new HashMap<>();
+        Map<String, Long> counts = new HashMap<>();
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String text;
+            long lineNumber = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) continue;
+
+                String type;
+                Object data;
+                Object[] row;
+                try {
+                    JsonNode node = objectMapper.readTree(text);
+                    type = node.path("type").asString();
+                    ObjectReader typeReader = readers.get(type);
+                    if (typeReader == null) {
+                        throw new IllegalArgumentException("unknown type '" + type + "'");
+                    }
+                    data = typeReader.readValue(node.path("data"));
+                    row = toRow(data);
+                } catch (JacksonException | IllegalArgumentException | NullPointerException e) {
+                    throw new IllegalArgumentException("Import failed at line " + lineNumber + ": " + e.getMessage());
+                }
+
+                Chunk chunk = pending.computeIfAbsent(type, t -> new Chunk());
+                chunk.rows.add(row);
+                // Lines without "skills" (older exports) leave the project's links alone
+                if (data instanceof ProjectLine p && p.skills() != null) {
+                    chunk.relinked.add(new Object[]{p.slug()});
+                    for (SkillKey skill : new LinkedHashSet<>(p.skills())) {
+                        if (skill == null || skill.category() == null || skill.name() == null) {
+                            throw new IllegalArgumentException("Import failed at line " + lineNumber + ": skills need a category and a name");
+                        }
+                        chunk.links.add(new Object[]{p.slug(), skill.category(), skill.name()});
+                    }
+                }
+                if (chunk.rows.size() == CHUNK_SIZE) {
+                    flush(type, pending, counts);
+                }
+            }
+
+            flush("skill", pending, counts);
+            for (String type : List.copyOf(pending.keySet())) {
+                flush(type, pending, counts);
+            }
+        } finally {
+            // Caches must see whatever was committed, even if the import stopped half way
+            for (ContentType type : ContentType.values()) {
+                events.publishEvent(new ContentChangedEvent(type, null));
+            }
+        }
+
+        return new ImportResultDTO(
+                counts.getOrDefault("project", 0L),
+                counts.getOrDefault("experience", 0L),
+                counts.getOrDefault("education", 0L),
+                counts.getOrDefault("skill", 0L),
+                counts.getOrDefault("project-skill", 0L)
+        );
+    }
+
+    private void write(OutputStream out, String type, Stream<?> rows) {
+        long[] written = {0};
+        rows.forEach(row -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(new Line(type, row)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Each row is mapped before it gets here, so the entities behind it (and their lazily
+            // loaded collections) can go; otherwise the persistence context grows with the table
+            if (++written[0] % CHUNK_SIZE == 0) {
+                entityManager.clear();
+            }
+        });
+        entityManager.clear();
+    }
+
+    private void flush(String type, Map<String, Chunk> pending, Map<String, Long> counts) {
+        Chunk chunk = pending.remove(type);
+        if (chunk == null || chunk.rows.isEmpty()) return;
+
+        // Links name their skills, so every skill read so far has to be written first
+        if (type.equals("project")) {
+            flush("skill", pending, counts);
+        }
+
+        String sql = switch (type) {
+            case "project" -> MERGE_PROJECT;
+            case "experience" -> MERGE_EXPERIENCE;
+            case "education" -> MERGE_EDUCATION;
+            case "skill" -> MERGE_SKILL;
+            default -> throw new IllegalStateException(type);
+        };
+
+        long linked = writeTx.execute(status -> {
+            jdbc.batchUpdate(sql, chunk.rows);
+            if (chunk.relinked.isEmpty()) return 0L;
+            jdbc.batchUpdate(UNLINK_PROJECT, chunk.relinked);
+            if (chunk.links.isEmpty()) return 0L;
+            return Arrays.stream(jdbc.batchUpdate(LINK_PROJECT, chunk.links)).filter(n -> n > 0).count();
+        });
+        counts.merge(type, (long) chunk.rows.size(), Long::sum);
+        if (!chunk.relinked.isEmpty()) {
+            counts.merge("project-skill", linked, Long::sum);
+            if (linked < chunk.links.size()) {
+                log.warn("Import skipped {} project skill links naming skills that do not exist", chunk.links.size() - linked);
+            }
+        }
+    }
+
+    private static Object[] toRow(Object data) {
+        if (data instanceof ProjectLine p) {
+            Instant createdAt = p.createdAt() != null ? p.createdAt() : Instant.now();
+            return new Object[]{
+                    required(p.title(), "title"), required(p.slug(), "slug"), required(p.description(), "description"),
+                    p.imageUrl(), p.liveUrl(), p.githubUrl(), Timestamp.from(createdAt)
+            };
+        }
+        if (data instanceof ExperienceRequestDTO e) {
+            return new Object[]{
+                    required(e.getCompany(), "company"), required(e.getPosition(), "position"), required(e.getStartYear(), "startYear"),
+                    e.getEndYear(), required(e.getIsPresent(), "isPresent"), required(e.getSummary(), "summary"),
+                    required(e.getSortOrder(), "sortOrder")
+            };
+        }
+        if (data instanceof Education e) {
+            return new Object[]{
+                    required(e.getLevel(), "level"), required(e.getSchool(), "school"), required(e.getProgram(), "program"),
+                    required(e.getStatus(), "status").name(), e.getCompletedYear(), required(e.getSortOrder(), "sortOrder")
+            };
+        }
+        Skill s = (Skill) data;
+        return new Object[]{
+                required(s.getCategory(), "category"), required(s.getName(), "name"), required(s.getSortOrder(), "sortOrder")
+        };
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        // Exported rows carry ids and timestamps that the import does not use
+        return objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.backend.transfer.presentation;
+
+public record ImportResultDTO(
+        long projects,
+        long experiences,
+        long educations,
+        long skills,
+        long projectSkills
+) {}
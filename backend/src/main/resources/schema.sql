@@ -1,5 +1,12 @@
+-- Ids come from sequences stepping by 50 to match Hibernate's pooled optimizer (allocationSize = 50).
+-- Plain INSERTs such as data.sql take the column default, which draws from the same sequence.
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS education_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS skills_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS experience_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS projects (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR projects_seq PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     slug VARCHAR(255) NOT NULL UNIQUE,
     description VARCHAR(500) NOT NULL,
@@ -10,9 +17,10 @@ CREATE TABLE IF NOT EXISTS projects (
 );
 
 CREATE INDEX IF NOT EXISTS idx_projects_title ON projects(title);
+CREATE INDEX IF NOT EXISTS idx_projects_created_at_id ON projects(created_at DESC, id DESC);
 
 CREATE TABLE IF NOT EXISTS education (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    id BIGINT DEFAULT NEXT VALUE FOR education_seq PRIMARY KEY,
     level VARCHAR(50) NOT NULL,
     school VARCHAR(255) NOT NULL,
     program VARCHAR(255) NOT NULL,
@@ -22,14 +30,14 @@ CREATE TABLE IF NOT EXISTS education (
 );
 
 CREATE TABLE IF NOT EXISTS skills (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    id BIGINT DEFAULT NEXT VALUE FOR skills_seq PRIMARY KEY,
     category VARCHAR(50) NOT NULL,
     name VARCHAR(100) NOT NULL,
     sort_order INT NOT NULL
 );
 
 CREATE TABLE IF NOT EXISTS experience (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    id BIGINT DEFAULT NEXT VALUE FOR experience_seq PRIMARY KEY,
     company VARCHAR(255) NOT NULL,
     position VARCHAR(255) NOT NULL,
     start_year INT NOT NULL,
@@ -38,3 +46,25 @@ CREATE TABLE IF NOT EXISTS experience (
     summary VARCHAR(2000) NOT NULL,
     sort_order INT NOT NULL
 );
+
+-- Defined only here: @Index cannot say NULLS LAST, which the public order in ExperienceRepository uses
+CREATE INDEX IF NOT EXISTS idx_experience_public_order ON experience(is_present DESC, end_year DESC NULLS LAST, start_year DESC);
+
+-- Content changes for the other instances to pick up, see JdbcOutboxTransport
+CREATE TABLE IF NOT EXISTS content_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    node VARCHAR(64) NOT NULL,
+    content_type VARCHAR(30) NOT NULL,
+    entity_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_content_outbox_created_at ON content_outbox(created_at);
+
+CREATE TABLE IF NOT EXISTS project_skills (
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    skill_id BIGINT NOT NULL REFERENCES skills(id) ON DELETE CASCADE,
+    PRIMARY KEY (project_id, skill_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_skills_skill ON project_skills(skill_id);
@@ -0,0 +1,75 @@
+package com.example.backend.batch;
+
+import com.example.backend.education.business.EducationService;
+import com.example.backend.education.presentation.EducationRequestDTO;
+import com.example.backend.experience.business.ExperienceService;
+import com.example.backend.experience.presentation.ExperienceRequestDTO;
+import com.example.backend.project.business.ProjectService;
+import com.example.backend.project.presentation.ProjectRequestDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every resource with a batch endpoint describes a rejected item the same way, so clients can
+ * handle them alike.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:batch-rejection;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "no-l2"})
+class BatchRejectionTest {
+
+    @Autowired
+    private ProjectService projects;
+
+    @Autowired
+    private ExperienceService experiences;
+
+    @Autowired
+    private SkillService skills;
+
+    @Autowired
+    private EducationService educations;
+
+    @Test
+    void projectRejections() {
+        assertRejections(projects::saveBatch, new ProjectRequestDTO(null, null, null, null, null, null, null),
+                "description", "slug", "title");
+    }
+
+    @Test
+    void experienceRejections() {
+        assertRejections(experiences::createBatch, new ExperienceRequestDTO(),
+                "company", "isPresent", "position", "sortOrder", "startYear", "summary");
+    }
+
+    @Test
+    void skillRejections() {
+        assertRejections(skills::saveBatch, new SkillRequestDTO(null, null, null),
+                "category", "name", "sortOrder");
+    }
+
+    @Test
+    void educationRejections() {
+        assertRejections(educations::saveBatch, new EducationRequestDTO(null, null, null, null, null, null),
+                "level", "program", "school", "sortOrder", "status");
+    }
+
+    // One "<property> <message>" per violation, sorted and comma separated; the wording depends on the locale
+    private static <T> void assertRejections(Function<List<T>, BatchResultDTO> saveBatch, T invalid, String... properties) {
+        BatchResultDTO result = saveBatch.apply(Arrays.asList(null, invalid));
+
+        assertEquals(new BatchResultDTO(0, 0, 2, result.items()), result);
+        assertEquals("Item is empty", result.items().get(0).message());
+        String message = result.items().get(1).message();
+        assertTrue(message.matches(String.join(" [^,]+, ", properties) + " [^,]+"), message);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.changes.business;
+
+import com.example.backend.changes.presentation.ChangeFeedController;
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ChangeFeedTest {
+
+    private final ChangeFeed feed = new ChangeFeed(new ContentVersions(), new SimpleMeterRegistry());
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new ChangeFeedController(feed)).build();
+
+    @AfterEach
+    void shutdown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void liveSubscriberReceivesEveryChangeInOrder() throws Exception {
+        MvcResult live = subscribe(null);
+
+        publish(3);
+
+        await(() -> events(live, "id:").size() == 3);
+        assertEquals(List.of("change", "change", "change"), events(live, "event:"));
+        assertTrue(events(live, "id:").get(2).endsWith("-3"));
+    }
+
+    @Test
+    void everyLiveSubscriberReceivesTheSameWellFormedEvents() throws Exception {
+        List<MvcResult> live = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            live.add(subscribe(null));
+        }
+
+        publish(200);
+
+        for (MvcResult result : live) {
+            await(() -> events(result, "id:").size() == 200);
+        }
+        String first = live.get(0).getResponse().getContentAsString();
+        for (MvcResult result : live) {
+            String content = result.getResponse().getContentAsString();
+            assertEquals(first, content);
+            // Each event ends with exactly one blank line, however many subscribers it went to
+            assertFalse(content.contains("\n\n\n"), content);
+        }
+    }
+
+    @Test
+    void resumeReplaysOnlyTheEventsAfterLastEventId() throws Exception {
+        MvcResult first = subscribe(null);
+        publish(3);
+        await(() -> events(first, "id:").size() == 3);
+
+        MvcResult resumed = subscribe(events(first, "id:").get(0));
+
+        await(() -> events(resumed, "id:").size() == 2);
+        assertEquals(events(first, "id:").subList(1, 3), events(resumed, "id:"));
+    }
+
+    @Test
+    void unknownLastEventIdGetsReset() throws Exception {
+        publish(2);
+
+        for (String lastEventId : List.of("garbage", "0-1", epoch() + "-99")) {
+            MvcResult result = subscribe(lastEventId);
+            await(() -> !events(result, "event:").isEmpty());
+            assertEquals(List.of("reset"), events(result, "event:"), lastEventId);
+            assertEquals(List.of(epoch() + "-2"), events(result, "id:"));
+        }
+    }
+
+    @Test
+    void resumeAcrossTheRingWrapAroundReplaysTheBufferedTail() throws Exception {
+        String epoch = epoch();
+        publish(ChangeFeed.BUFFER_SIZE + 10);
+
+        // Events 1..10 were overwritten, so only a client that saw event 10 can still resume
+        MvcResult tooOld = subscribe(epoch + "-9");
+        await(() -> !events(tooOld, "event:").isEmpty());
+        assertEquals(List.of("reset"), events(tooOld, "event:"));
+
+        MvcResult resumed = subscribe(epoch + "-10");
+        await(() -> events(resumed, "id:").size() == ChangeFeed.BUFFER_SIZE);
+        List<String> ids = events(resumed, "id:");
+        assertEquals(epoch + "-11", ids.get(0));
+        assertEquals(epoch + "-" + (ChangeFeed.BUFFER_SIZE + 10), ids.get(ids.size() - 1));
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            feed.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, (long) i));
+        }
+    }
+
+    // The reset event carries the current id, whose prefix is this boot's epoch
+    private String epoch() throws Exception {
+        MvcResult result = subscribe("garbage");
+        await(() -> !events(result, "id:").isEmpty());
+        String id = events(result, "id:").get(0);
+        return id.substring(0, id.lastIndexOf('-'));
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        var builder = get("/api/changes");
+        if (lastEventId != null) builder.header("Last-Event-ID", lastEventId);
+        return mvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static List<String> events(MvcResult result, String field) {
+        try {
+            return result.getResponse().getContentAsString().lines()
+                    .filter(line -> line.startsWith(field))
+                    .map(line -> line.substring(field.length()))
+                    .toList();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the change feed");
+            Thread.sleep(10);
+        }
+    }
+}
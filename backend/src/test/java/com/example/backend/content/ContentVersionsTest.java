@@ -0,0 +1,90 @@
+package com.example.backend.content;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentVersionsTest {
+
+    private final ContentVersions versions = new ContentVersions();
+
+    @Test
+    void firstRequestGetsTheEtagAndABody() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(versions.checkNotModified(request(response, null), ContentType.PROJECTS));
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(quoted(versions.etag(ContentType.PROJECTS)), response.getHeader(HttpHeaders.ETAG));
+        assertNotNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void matchingIfNoneMatchAnswers304() {
+        String etag = quoted(versions.etag(ContentType.PROJECTS));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(versions.checkNotModified(request(response, etag), ContentType.PROJECTS));
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void committedWriteInvalidatesTheEtag() {
+        String etag = quoted(versions.etag(ContentType.PROJECTS));
+
+        versions.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 1L));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(versions.checkNotModified(request(response, etag), ContentType.PROJECTS));
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(1, versions.version(ContentType.PROJECTS));
+    }
+
+    @Test
+    void combinedEtagChangesWithAnyOfItsTypesOnly() {
+        String both = versions.etag(ContentType.PROJECTS, ContentType.SKILLS);
+
+        versions.onContentChanged(new ContentChangedEvent(ContentType.EDUCATIONS, null));
+        assertEquals(both, versions.etag(ContentType.PROJECTS, ContentType.SKILLS));
+
+        versions.onContentChanged(new ContentChangedEvent(ContentType.SKILLS, null));
+        assertNotEquals(both, versions.etag(ContentType.PROJECTS, ContentType.SKILLS));
+    }
+
+    @Test
+    void etagsDifferAcrossRestarts() throws InterruptedException {
+        String before = versions.etag(ContentType.PROJECTS);
+        Thread.sleep(5);
+
+        assertNotEquals(before, new ContentVersions().etag(ContentType.PROJECTS));
+    }
+
+    @Test
+    void lastModifiedIsTheLatestOfTheTypes() throws InterruptedException {
+        long initial = versions.lastModified(ContentType.PROJECTS, ContentType.SKILLS);
+        Thread.sleep(5);
+
+        versions.onContentChanged(new ContentChangedEvent(ContentType.SKILLS, null));
+
+        assertEquals(initial, versions.lastModified(ContentType.PROJECTS));
+        assertTrue(versions.lastModified(ContentType.PROJECTS, ContentType.SKILLS) > initial);
+    }
+
+    private static ServletWebRequest request(MockHttpServletResponse response, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return new ServletWebRequest(request, response);
+    }
+
+    private static String quoted(String etag) {
+        return "\"" + etag + "\"";
+    }
+}
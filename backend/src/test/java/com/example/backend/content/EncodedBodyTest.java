@@ -0,0 +1,52 @@
+package com.example.backend.content;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedBodyTest {
+
+    private final byte[] json = "{\"projects\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void gzipVariantHasItsOwnEtag() {
+        assertEquals("abc-1", EncodedBody.etag("abc-1", null));
+        assertEquals("abc-1", EncodedBody.etag("abc-1", "br, identity"));
+        assertEquals("abc-1-gz", EncodedBody.etag("abc-1", "gzip, deflate, br"));
+        assertEquals("\"abc\"", EncodedBody.etag("\"abc\"", "deflate"));
+        assertEquals("\"abc-gz\"", EncodedBody.etag("\"abc\"", "gzip"));
+    }
+
+    @Test
+    void gzipIsOnlyPickedWhenAcceptedWithNonZeroQuality() {
+        assertTrue(EncodedBody.acceptsGzip("gzip"));
+        assertTrue(EncodedBody.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertFalse(EncodedBody.acceptsGzip("gzip;q=0"));
+        assertFalse(EncodedBody.acceptsGzip("gzip; q=0.000"));
+        assertFalse(EncodedBody.acceptsGzip("x-gzip"));
+        assertFalse(EncodedBody.acceptsGzip(""));
+    }
+
+    @Test
+    void responseCarriesTheChosenVariant() throws IOException {
+        EncodedBody body = EncodedBody.of(json);
+
+        ResponseEntity<byte[]> plain = body.toResponse(null);
+        assertArrayEquals(json, plain.getBody());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+
+        ResponseEntity<byte[]> gzip = body.toResponse("gzip");
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getHeaders().getFirst(HttpHeaders.VARY));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.backend.content;
+
+import com.example.backend.project.business.ProjectService;
+import com.example.backend.project.presentation.ProjectRequestDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillRequestDTO;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import com.example.backend.transfer.business.PortfolioTransferService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs with the second-level cache and the FULL query cache as shipped: cached lists are reused,
+ * and every kind of write, including those that bypass Hibernate, is visible on the next read.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:second-level-cache;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private SkillService skills;
+
+    @Autowired
+    private ProjectService projects;
+
+    @Autowired
+    private PortfolioTransferService transfer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void emptyCaches() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        // The regions may still hold another test context's rows, see application-no-l2.yml
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void repeatedListIsServedFromTheQueryCache() {
+        List<SkillResponseDTO> first = skills.list();
+        long hits = statistics.getQueryCacheHitCount();
+
+        assertEquals(first, skills.list());
+        assertTrue(statistics.getQueryCacheHitCount() > hits);
+    }
+
+    @Test
+    void updateReplacesTheCachedList() {
+        SkillResponseDTO skill = skills.list().get(0);
+
+        skills.update(skill.id(), new SkillRequestDTO(skill.category(), "Renamed while cached", skill.sortOrder()));
+
+        assertEquals("Renamed while cached", find(skill.id()).name());
+    }
+
+    @Test
+    void importWrittenWithJdbcReplacesTheCachedList() throws IOException {
+        SkillResponseDTO skill = skills.list().get(1);
+        String line = "{\"type\":\"skill\",\"data\":{\"category\":\"%s\",\"name\":\"%s\",\"sortOrder\":999}}\n"
+                .formatted(skill.category(), skill.name());
+
+        transfer.importFrom(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(999, find(skill.id()).sortOrder());
+    }
+
+    @Test
+    void deletedSkillLeavesTheCachedProjectLinks() {
+        SkillResponseDTO skill = skills.create(new SkillRequestDTO("Cache", "Deleted while linked", 1));
+        projects.create(new ProjectRequestDTO("Cached links", "cached-links", "Linked to a skill",
+                null, null, null, List.of(skill.id())));
+        assertEquals(List.of(skill.id()), projects.getBySlug("cached-links").skillIds());
+
+        // project_skills rows go by ON DELETE CASCADE, which the cached collection never sees
+        skills.delete(skill.id());
+
+        assertEquals(List.of(), projects.getBySlug("cached-links").skillIds());
+    }
+
+    private SkillResponseDTO find(Long id) {
+        return skills.list().stream().filter(s -> s.id().equals(id)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.backend.datasource;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.portfolio.business.PortfolioService;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillRequestDTO;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Separate in-memory H2 databases stand in for the primary and its replicas. Each holds a
+ * one-row "node" table naming it, so a query shows where it was routed.
+ */
+class ReplicaRoutingTest {
+
+    // Nothing listens there, connections are refused right away
+    private static final String UNREACHABLE = "jdbc:h2:tcp://localhost:1/~/unreachable";
+
+    private final String run = UUID.randomUUID().toString();
+    private String maxLag = "0s";
+    private ConfigurableApplicationContext context;
+
+    @AfterEach
+    void stop() {
+        if (context != null) context.close();
+    }
+
+    @Test
+    void readOnlyTransactionsRotateOverReplicas() {
+        start(database("replica-1", true), database("replica-2", true));
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            seen.add(node(true));
+        }
+
+        assertEquals(Set.of("replica-1", "replica-2"), seen);
+    }
+
+    @Test
+    void writeTransactionsUseThePrimary() {
+        start(database("replica-1", true));
+
+        assertEquals("primary", node(false));
+    }
+
+    @Test
+    void unreachableReplicaIsTakenOutOfRotation() {
+        start(database("replica-1", true), UNREACHABLE);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica-1", node(true));
+        }
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWithoutReplicas() {
+        start(UNREACHABLE, UNREACHABLE);
+
+        assertEquals("primary", node(true));
+    }
+
+    @Test
+    void publicListsAreReadFromReplicas() {
+        String replica = database("replica-1", true);
+        start(replica);
+        new JdbcTemplate(new DriverManagerDataSource(replica))
+                .update("INSERT INTO skills (category, name, sort_order) VALUES ('Design', 'Only on the replica', 999)");
+
+        assertTrue(context.getBean(SkillService.class).list().stream()
+                .map(SkillResponseDTO::name)
+                .anyMatch("Only on the replica"::equals));
+    }
+
+    @Test
+    void readsAfterAWriteUseThePrimaryWhileReplicasMayLag() throws InterruptedException {
+        maxLag = "2s";
+        start(database("replica-1", true));
+        awaitNode("replica-1");
+
+        // The stand-in replica never receives the write, like one lagging far behind
+        context.getBean(SkillService.class)
+                .create(new SkillRequestDTO("Design", "Only on the primary", 999));
+
+        assertEquals("primary", node(true));
+        assertTrue(context.getBean(SkillService.class).list().stream()
+                .map(SkillResponseDTO::name)
+                .anyMatch("Only on the primary"::equals));
+        byte[] portfolio = context.getBean(PortfolioService.class).current().body().json();
+        assertTrue(new String(portfolio, StandardCharsets.UTF_8).contains("Only on the primary"));
+
+        awaitNode("replica-1");
+    }
+
+    @Test
+    void replicaConnectionsAcceptExplicitCredentials() throws SQLException {
+        ReplicaPool pool = new ReplicaPool(
+                new DriverManagerDataSource(database("primary", false), "sa", ""),
+                List.of(new DriverManagerDataSource(database("replica-1", true), "sa", "")),
+                Duration.ofMinutes(1), Duration.ZERO, new SimpleMeterRegistry());
+
+        try (pool; Connection connection = pool.getConnection("sa", "");
+             ResultSet rs = connection.createStatement().executeQuery("SELECT name FROM node")) {
+            assertTrue(rs.next());
+            assertEquals("replica-1", rs.getString(1));
+        }
+    }
+
+    private void start(String... replicaUrls) {
+        String primary = database("primary", false);
+        context = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--ADMIN_USERNAME=test",
+                "--ADMIN_PASSWORD=test",
+                "--server.port=0",
+                // Query results would otherwise outlive the context in the JVM-wide JCache manager
+                "--spring.profiles.active=test,no-l2",
+                "--spring.datasource.url=" + primary,
+                "--app.db.replicas.urls=" + String.join(",", replicaUrls),
+                "--app.db.replicas.connection-timeout=250ms",
+                "--app.db.replicas.max-lag=" + maxLag,
+                "--app.invalidation.enabled=false");
+    }
+
+    /** Creates a database with the "node" marker; replicas also get the schema and seed data the primary creates on startup. */
+    private String database(String name, boolean replica) {
+        String url = "jdbc:h2:mem:" + name + "-" + run + ";DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        if (replica) {
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                    .execute(dataSource);
+        }
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return url;
+    }
+
+    private void awaitNode(String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!expected.equals(node(true))) {
+            assertTrue(System.nanoTime() < deadline, "reads never returned to " + expected);
+            Thread.sleep(100);
+        }
+    }
+
+    private String node(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tx.setReadOnly(readOnly);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        return tx.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+}
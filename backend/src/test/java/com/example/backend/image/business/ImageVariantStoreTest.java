@@ -0,0 +1,212 @@
+package com.example.backend.image.business;
+
+import com.example.backend.exception.ImageUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageVariantStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private HttpServer origin;
+    private final AtomicInteger hits = new AtomicInteger();
+    private String baseUrl;
+
+    @BeforeEach
+    void startOrigin() throws IOException {
+        byte[] large = png(2000, 1000);
+        byte[] small = png(100, 50);
+        byte[] huge = pngHeader(100_000, 100_000);
+
+        origin = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        origin.createContext("/large.png", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 200, large);
+        });
+        origin.createContext("/small.png", exchange -> respond(exchange, 200, small));
+        origin.createContext("/huge.png", exchange -> respond(exchange, 200, huge));
+        origin.createContext("/missing.png", exchange -> respond(exchange, 404, new byte[0]));
+        origin.createContext("/not-an-image", exchange -> respond(exchange, 200, "hello".getBytes()));
+        origin.setExecutor(Executors.newCachedThreadPool());
+        origin.start();
+
+        baseUrl = "http://localhost:" + origin.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopOrigin() {
+        origin.stop(0);
+    }
+
+    @Test
+    void resizesToWidthBucketAndFetchesSourceOnce() throws IOException {
+        ImageVariantStore store = store(Long.MAX_VALUE);
+
+        Path w320 = store.variant(baseUrl + "/large.png", ImageVariantStore.bucket(300));
+        Path w640 = store.variant(baseUrl + "/large.png", ImageVariantStore.bucket(640));
+        Path again = store.variant(baseUrl + "/large.png", 320);
+
+        assertEquals(320, ImageIO.read(w320.toFile()).getWidth());
+        assertEquals(160, ImageIO.read(w320.toFile()).getHeight());
+        assertEquals(640, ImageIO.read(w640.toFile()).getWidth());
+        assertEquals(w320, again);
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void neverUpscales() throws IOException {
+        ImageVariantStore store = store(Long.MAX_VALUE);
+
+        Path variant = store.variant(baseUrl + "/small.png", 1280);
+
+        assertEquals(100, ImageIO.read(variant.toFile()).getWidth());
+    }
+
+    @Test
+    void concurrentMissesShareOneDownload() throws Exception {
+        ImageVariantStore store = store(Long.MAX_VALUE);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] results = new Future<?>[8];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = pool.submit(() -> {
+                    start.await();
+                    return store.variant(baseUrl + "/large.png", 480);
+                });
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                assertNotNull(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFilesPastTheLimit() {
+        // Every new file pushes everything older out
+        ImageVariantStore store = store(1);
+
+        Path first = store.variant(baseUrl + "/large.png", 160);
+        Path second = store.variant(baseUrl + "/large.png", 320);
+
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    @Test
+    void keepsPinnedFilesPastTheLimit() {
+        ImageVariantStore store = new ImageVariantStore(dir, 1, HttpClient.newHttpClient(), Duration.ofMinutes(1));
+
+        Path first = store.variant(baseUrl + "/large.png", 160);
+        Path second = store.variant(baseUrl + "/large.png", 320);
+
+        assertTrue(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    @Test
+    void restoresExistingFilesOnRestart() {
+        Path variant = store(Long.MAX_VALUE).variant(baseUrl + "/large.png", 480);
+
+        Path reloaded = store(Long.MAX_VALUE).variant(baseUrl + "/large.png", 480);
+
+        assertEquals(variant, reloaded);
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void failsWhenOriginDoesNotServeAnImage() {
+        ImageVariantStore store = store(Long.MAX_VALUE);
+
+        assertThrows(ImageUnavailableException.class, () -> store.variant(baseUrl + "/missing.png", 320));
+        assertThrows(ImageUnavailableException.class, () -> store.variant(baseUrl + "/not-an-image", 320));
+        assertThrows(ImageUnavailableException.class, () -> store.variant("file:///etc/passwd", 320));
+    }
+
+    @Test
+    void rejectsSourcesDeclaringTooManyPixelsBeforeDecoding() {
+        ImageVariantStore store = store(Long.MAX_VALUE);
+
+        ImageUnavailableException e = assertThrows(ImageUnavailableException.class,
+                () -> store.variant(baseUrl + "/huge.png", 320));
+        assertTrue(e.getMessage().contains("too large"), e.getMessage());
+    }
+
+    @Test
+    void versionMatchesTheFrontendHash() {
+        // imageVersion() in frontend/src/api/projectsApi.ts
+        assertEquals("45h", ImageVariantStore.version(""));
+        assertEquals("pmzvws", ImageVariantStore.version("https://example.com/a.png"));
+    }
+
+    @Test
+    void roundsRequestedWidthUpToBucket() {
+        assertEquals(160, ImageVariantStore.bucket(1));
+        assertEquals(480, ImageVariantStore.bucket(321));
+        assertEquals(1280, ImageVariantStore.bucket(5000));
+        assertEquals(1280, ImageVariantStore.bucket(null));
+    }
+
+    private ImageVariantStore store(long maxBytes) {
+        return new ImageVariantStore(dir, maxBytes, HttpClient.newHttpClient(), Duration.ZERO);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    // Signature and IHDR chunk only: enough for a reader to report the dimensions
+    private static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17)
+                .put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width)
+                .putInt(height)
+                .put(new byte[]{8, 2, 0, 0, 0});
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'})
+                .putInt(13)
+                .put(ihdr.array())
+                .putInt((int) crc.getValue())
+                .array();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.invalidation;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.content.ContentType;
+import com.example.backend.content.ContentVersions;
+import com.example.backend.project.business.ProjectService;
+import com.example.backend.project.presentation.ProjectRequestDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three instances in one JVM sharing an in-memory database, as replicas behind a load balancer
+ * share theirs.
+ */
+class InvalidationBusTest {
+
+    private final String url = "jdbc:h2:mem:bus-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void startNodes() {
+        // Only the first node creates and seeds the schema
+        nodes.add(start("node-1", "always"));
+        nodes.add(start("node-2", "never"));
+        nodes.add(start("node-3", "never"));
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void writeOnOneNodeRefreshesTheOthers() throws InterruptedException {
+        // Warm the read models first so a stale copy would be served
+        nodes.forEach(node -> node.getBean(ProjectService.class).getProjects(null));
+        long before = version(nodes.get(1));
+
+        ProjectResponseDTO created = nodes.get(0).getBean(ProjectService.class).create(
+                new ProjectRequestDTO("Bus", "invalidation-bus", "Created on node 1", null, null, null, null));
+
+        for (ConfigurableApplicationContext node : nodes.subList(1, 3)) {
+            await(() -> version(node) > before);
+            assertEquals(created.id(), node.getBean(ProjectService.class).getBySlug("invalidation-bus").id());
+        }
+    }
+
+    @Test
+    void nodeDoesNotReapplyItsOwnChanges() throws InterruptedException {
+        ConfigurableApplicationContext writer = nodes.get(0);
+        long before = version(writer);
+
+        writer.getBean(ProjectService.class).create(
+                new ProjectRequestDTO("Own", "own-change", "Created on node 1", null, null, null, null));
+        await(() -> version(nodes.get(2)) == before + 1);
+        Thread.sleep(500);
+
+        assertEquals(before + 1, version(writer));
+    }
+
+    private ConfigurableApplicationContext start(String node, String initMode) {
+        return new SpringApplicationBuilder(BackendApplication.class).run(
+                "--ADMIN_USERNAME=test",
+                "--ADMIN_PASSWORD=test",
+                "--server.port=0",
+                // Without the second-level cache, or the nodes would share one; see application-no-l2.yml
+                "--spring.profiles.active=test,no-l2",
+                "--spring.datasource.url=" + url,
+                "--spring.sql.init.mode=" + initMode,
+                "--app.invalidation.node-id=" + node,
+                "--app.invalidation.poll-interval=50ms");
+    }
+
+    private static long version(ConfigurableApplicationContext node) {
+        return node.getBean(ContentVersions.class).version(ContentType.PROJECTS);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the other nodes");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.invalidation;
+
+import com.example.backend.content.ContentChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcOutboxTransportTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    private final List<Long> received = new CopyOnWriteArrayList<>();
+
+    private JdbcOutboxTransport transport;
+
+    @BeforeEach
+    void createSchema() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+    }
+
+    @AfterEach
+    void stopTransport() {
+        if (transport != null) transport.stop();
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Test
+    void gapTimeoutRestartsWhenTheWatermarkMoves() throws InterruptedException {
+        start(Duration.ofSeconds(1));
+        long t0 = System.nanoTime();
+
+        // Ids 2 and 4 belong to transactions that have not committed yet
+        insert(1);
+        insert(3);
+        insert(5);
+        await(() -> received.containsAll(List.of(1L, 3L, 5L)));
+
+        // The first gap fills shortly before its timeout...
+        sleepUntil(t0, 700);
+        insert(2);
+        await(() -> received.contains(2L));
+
+        // ...so the second one, open since then, must not be skipped on the first gap's clock
+        sleepUntil(t0, 1300);
+        insert(4);
+        await(() -> received.contains(4L));
+    }
+
+    @Test
+    void abandonedGapIsSkippedAfterTheTimeout() throws InterruptedException {
+        start(Duration.ofMillis(200));
+
+        insert(1);
+        insert(3);
+        await(() -> received.contains(3L));
+        Thread.sleep(500);
+
+        // Past the timeout the watermark has moved over 2, so a late row below it is not read
+        insert(2);
+        insert(4);
+        await(() -> received.contains(4L));
+        assertFalse(received.contains(2L));
+    }
+
+    @Test
+    void openGapDoesNotHoldBackRowsBeyondOneBatch() throws InterruptedException {
+        start(Duration.ofSeconds(30));
+
+        // 2 stays missing; far more rows than one poll reads arrive above it
+        insert(1);
+        jdbc.batchUpdate("INSERT INTO content_outbox (id, node, content_type, entity_id) VALUES (?, 'other', 'PROJECTS', ?)",
+                LongStream.rangeClosed(3, 1200).mapToObj(id -> new Object[]{id, id}).toList());
+        await(() -> received.contains(1200L));
+
+        insert(1201);
+        await(() -> received.contains(1201L));
+        assertEquals(1200, received.size());
+    }
+
+    @Test
+    void startReplaysRowsRecentEnoughToHaveBeenInFlight() throws InterruptedException {
+        jdbc.update("INSERT INTO content_outbox (id, node, content_type, entity_id, created_at) VALUES (1, 'other', 'PROJECTS', 1, ?)",
+                Timestamp.from(Instant.now().minus(Duration.ofHours(1))));
+        insert(2);
+
+        start(Duration.ofSeconds(30));
+
+        await(() -> received.contains(2L));
+        Thread.sleep(200);
+        assertEquals(List.of(2L), received);
+    }
+
+    @Test
+    void ownRowsAreNotDelivered() throws InterruptedException {
+        start(Duration.ofSeconds(30));
+
+        jdbc.update("INSERT INTO content_outbox (id, node, content_type, entity_id) VALUES (1, 'self', 'PROJECTS', 1)");
+        insert(2);
+
+        await(() -> received.contains(2L));
+        assertEquals(List.of(2L), received);
+    }
+
+    private void start(Duration gapTimeout) {
+        transport = new JdbcOutboxTransport(jdbc, Duration.ofMillis(20), Duration.ofHours(1), gapTimeout);
+        transport.start("self", (ContentChangedEvent event) -> received.add(event.id()));
+    }
+
+    // The entity id doubles as the row id, so the receiver can tell which rows it saw
+    private void insert(long id) {
+        jdbc.update("INSERT INTO content_outbox (id, node, content_type, entity_id) VALUES (?, 'other', 'PROJECTS', ?)",
+                id, id);
+    }
+
+    private static void sleepUntil(long start, long millis) throws InterruptedException {
+        long remaining = millis - (System.nanoTime() - start) / 1_000_000;
+        if (remaining > 0) Thread.sleep(remaining);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the outbox rows");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestMetricsInterceptor interceptor = new RequestMetricsInterceptor(registry);
+
+    @Test
+    void matchedRequestIsTaggedWithItsPattern() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/tracker");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{slug}");
+
+        handle(request, new MockHttpServletResponse());
+
+        assertNotNull(registry.find("http.server.requests.statements").tag("uri", "/api/projects/{slug}").summary());
+    }
+
+    @Test
+    void unmatchedRequestIsTaggedUnknown() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/no/such/page");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+
+        handle(request, response);
+
+        assertNotNull(registry.find("http.server.requests.statements").tag("uri", "UNKNOWN").summary());
+        assertNotNull(registry.find("http.server.requests.conditional").tag("uri", "UNKNOWN").counter());
+        assertNull(registry.find("http.server.requests.statements").tag("uri", "null").summary());
+    }
+
+    private void handle(MockHttpServletRequest request, MockHttpServletResponse response) {
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.project.business;
+
+import com.example.backend.batch.BatchItemResult;
+import com.example.backend.batch.BatchResultDTO;
+import com.example.backend.project.presentation.ProjectRequestDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:batch;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "no-l2"})
+class ProjectBatchTest {
+
+    @Autowired
+    private ProjectService service;
+
+    @Test
+    void invalidItemsAreRejectedOneByOneAndTheRestAreWritten() {
+        ProjectResponseDTO existing = service.getProjects(null).get(0);
+
+        BatchResultDTO result = service.saveBatch(Arrays.asList(
+                request("Batch new", "batch-new", null),
+                request("Renamed", existing.slug(), null),
+                request(" ", "batch-blank-title", null),
+                null,
+                request("Batch twice", "batch-new", null),
+                request("Batch skills", "batch-unknown-skill", List.of(-1L))
+        ));
+
+        assertEquals(1, result.created());
+        assertEquals(1, result.updated());
+        assertEquals(4, result.rejected());
+
+        List<BatchItemResult> items = result.items();
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), items.stream().map(BatchItemResult::index).toList());
+        assertEquals(BatchItemResult.Status.CREATED, items.get(0).status());
+        assertNotNull(items.get(0).id());
+        assertEquals(BatchItemResult.Status.UPDATED, items.get(1).status());
+        assertEquals(existing.id(), items.get(1).id());
+        assertTrue(items.get(2).message().startsWith("title "), items.get(2).message());
+        assertEquals("Item is empty", items.get(3).message());
+        assertTrue(items.get(4).message().startsWith("Slug appears more than once"), items.get(4).message());
+        assertEquals("Unknown skill ids: [-1]", items.get(5).message());
+        items.subList(2, 6).forEach(item -> {
+            assertEquals(BatchItemResult.Status.REJECTED, item.status());
+            assertNull(item.id());
+        });
+
+        // The read model is rebuilt after the commit, so the written rows are visible right away
+        assertEquals(items.get(0).id(), service.getBySlug("batch-new").id());
+        assertEquals("Renamed", service.getBySlug(existing.slug()).title());
+        assertThrows(RuntimeException.class, () -> service.getBySlug("batch-blank-title"));
+        assertThrows(RuntimeException.class, () -> service.getBySlug("batch-unknown-skill"));
+    }
+
+    @Test
+    void batchOfOnlyRejectedItemsWritesNothing() {
+        int before = service.getProjects(null).size();
+
+        BatchResultDTO result = service.saveBatch(List.of(new ProjectRequestDTO("", "", "", null, null, null, null)));
+
+        assertEquals(new BatchResultDTO(0, 0, 1, result.items()), result);
+        // One message per item, violations sorted by property; the wording depends on the locale
+        String message = result.items().get(0).message();
+        assertTrue(message.matches("description [^,]+, slug [^,]+, title [^,]+"), message);
+        assertEquals(before, service.getProjects(null).size());
+    }
+
+    @Test
+    void emptyAndOversizedBatchesAreRefusedAsAWhole() {
+        assertThrows(IllegalArgumentException.class, () -> service.saveBatch(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.saveBatch(null));
+
+        List<ProjectRequestDTO> tooMany = new ArrayList<>(Collections.nCopies(BatchResultDTO.MAX_ITEMS + 1, null));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.saveBatch(tooMany));
+        assertEquals("Batch is limited to " + BatchResultDTO.MAX_ITEMS + " items", e.getMessage());
+    }
+
+    private static ProjectRequestDTO request(String title, String slug, List<Long> skillIds) {
+        return new ProjectRequestDTO(title, slug, "Written by a batch", null, null, null, skillIds);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.presentation.ProjectFacetsDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectFacetIndexTest {
+
+    private static final long JAVA = 1, SPRING = 2, REACT = 3, DOCKER = 4;
+
+    private final ProjectReadModel readModel = mock(ProjectReadModel.class);
+    private final SkillService skillService = mock(SkillService.class);
+    private final ProjectFacetIndex index = new ProjectFacetIndex(readModel, skillService);
+
+    @BeforeEach
+    void seed() {
+        when(skillService.list()).thenReturn(List.of(
+                skill(JAVA, "Backend", "Java"),
+                skill(SPRING, "Backend", "Spring"),
+                skill(REACT, "Frontend", "React"),
+                skill(DOCKER, "Tools", "Docker")
+        ));
+        serve(1,
+                project(10, JAVA, SPRING),
+                project(20, JAVA, REACT),
+                project(30, REACT),
+                project(40, JAVA, SPRING, DOCKER),
+                project(50)
+        );
+    }
+
+    @Test
+    void noFilterReturnsEveryProjectInListOrder() {
+        ProjectFacetsDTO facets = index.filter(null, null, null);
+
+        assertEquals(List.of(10L, 20L, 30L, 40L, 50L), ids(facets));
+        assertEquals(Map.of("Java", 3, "Spring", 2, "React", 2, "Docker", 1), skillCounts(facets));
+        assertEquals(Map.of("Backend", 3, "Frontend", 2, "Tools", 1), categoryCounts(facets));
+    }
+
+    @Test
+    void everyNamedSkillIsRequired() {
+        assertEquals(List.of(10L, 20L, 40L), ids(index.filter(List.of("java"), null, null)));
+        assertEquals(List.of(10L, 40L), ids(index.filter(List.of("Java", " SPRING "), null, null)));
+        assertEquals(List.of(), ids(index.filter(List.of("Spring", "React"), null, null)));
+        assertEquals(List.of(), ids(index.filter(List.of("Cobol"), null, null)));
+        // Blank names are ignored rather than matching nothing
+        assertEquals(List.of(10L, 20L, 30L, 40L, 50L), ids(index.filter(List.of(" "), null, null)));
+    }
+
+    @Test
+    void categoryNeedsAnyOfItsSkills() {
+        assertEquals(List.of(10L, 20L, 40L), ids(index.filter(null, "backend", null)));
+        assertEquals(List.of(20L), ids(index.filter(List.of("Java"), "Frontend", null)));
+        assertEquals(List.of(), ids(index.filter(null, "Design", null)));
+    }
+
+    @Test
+    void candidatesLimitTheResult() {
+        ProjectFacetsDTO facets = index.filter(List.of("Java"), null, List.of(40L, 30L, 20L, 99L));
+
+        assertEquals(List.of(20L, 40L), ids(facets));
+    }
+
+    @Test
+    void countsDescribeTheFilteredProjects() {
+        ProjectFacetsDTO facets = index.filter(List.of("Java"), null, null);
+
+        assertEquals(Map.of("Java", 3, "Spring", 2, "React", 1, "Docker", 1), skillCounts(facets));
+        assertEquals(Map.of("Backend", 3, "Frontend", 1, "Tools", 1), categoryCounts(facets));
+        // One entry per category even though it has several skills
+        assertEquals(3, facets.categories().size());
+    }
+
+    @Test
+    void newSnapshotRebuildsTheIndex() {
+        index.filter(null, null, null);
+
+        serve(2, project(60, DOCKER), project(10, JAVA));
+
+        ProjectFacetsDTO facets = index.filter(null, "Tools", null);
+        assertEquals(List.of(60L), ids(facets));
+        assertEquals(Map.of("Java", 1, "Spring", 0, "React", 0, "Docker", 1), skillCounts(index.filter(null, null, null)));
+    }
+
+    @Test
+    void skillChangesRebuildTheIndexWithoutANewSnapshot() {
+        index.filter(null, null, null);
+        verify(skillService, times(1)).list();
+
+        // Unchanged versions reuse the built index
+        index.filter(List.of("Java"), null, null);
+        verify(skillService, times(1)).list();
+
+        when(skillService.list()).thenReturn(List.of(
+                skill(JAVA, "Languages", "Java"),
+                skill(SPRING, "Backend", "Spring Boot"),
+                skill(REACT, "Frontend", "React"),
+                skill(DOCKER, "Tools", "Docker")
+        ));
+        index.onContentChanged(new ContentChangedEvent(ContentType.SKILLS, SPRING));
+
+        assertEquals(List.of(10L, 40L), ids(index.filter(List.of("spring boot"), null, null)));
+        assertEquals(List.of(10L, 20L, 40L), ids(index.filter(null, "languages", null)));
+        verify(skillService, times(2)).list();
+    }
+
+    private void serve(long version, ProjectResponseDTO... projects) {
+        List<ProjectResponseDTO> list = List.of(projects);
+        when(readModel.current()).thenReturn(new ProjectReadModel.Snapshot(
+                version,
+                list,
+                list.stream().collect(Collectors.toMap(ProjectResponseDTO::id, Function.identity())),
+                list.stream().collect(Collectors.toMap(ProjectResponseDTO::slug, Function.identity()))));
+    }
+
+    private static ProjectResponseDTO project(long id, Long... skillIds) {
+        return new ProjectResponseDTO(id, "Project " + id, "project-" + id, "", null, null, null, Instant.EPOCH, List.of(skillIds));
+    }
+
+    private static SkillResponseDTO skill(long id, String category, String name) {
+        return new SkillResponseDTO(id, category, name, (int) id);
+    }
+
+    private static List<Long> ids(ProjectFacetsDTO facets) {
+        return facets.projects().stream().map(ProjectResponseDTO::id).toList();
+    }
+
+    private static Map<String, Integer> skillCounts(ProjectFacetsDTO facets) {
+        return facets.skills().stream()
+                .collect(Collectors.toMap(ProjectFacetsDTO.SkillFacet::name, ProjectFacetsDTO.SkillFacet::count));
+    }
+
+    private static Map<String, Integer> categoryCounts(ProjectFacetsDTO facets) {
+        return facets.categories().stream()
+                .collect(Collectors.toMap(ProjectFacetsDTO.CategoryFacet::name, ProjectFacetsDTO.CategoryFacet::count));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.presentation.ProjectCardDTO;
+import com.example.backend.project.presentation.ProjectPageDTO;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:paging;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "no-l2"})
+class ProjectPagingTest {
+
+    // Rows sharing one timestamp, so page boundaries fall between ties broken by id
+    private static final int TIED = 12;
+    private static final Instant TIE = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Autowired
+    private ProjectService service;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @BeforeEach
+    void addTiedProjects() {
+        Integer existing = jdbc.queryForObject("SELECT COUNT(*) FROM projects WHERE slug LIKE 'tied-%'", Integer.class);
+        for (int i = existing; i < TIED; i++) {
+            jdbc.update("INSERT INTO projects (title, slug, description, created_at) VALUES (?, ?, ?, ?)",
+                    "Tied " + i, "tied-" + i, "Same creation time", Timestamp.from(TIE));
+        }
+        // Written behind the service's back, so the list the pages are compared with is told directly
+        if (existing < TIED) events.publishEvent(new ContentChangedEvent(ContentType.PROJECTS, null));
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        ProjectCursor cursor = new ProjectCursor(Instant.parse("2024-05-06T07:08:09.123456Z"), 42L);
+
+        String encoded = cursor.encode();
+
+        assertEquals(cursor, ProjectCursor.decode(encoded));
+        // URL-safe without escaping
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2024-01-01T00:00:00Z".getBytes(StandardCharsets.UTF_8));
+        String badInstant = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-01-01T00:00:00Z|x".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("not base64!", noSeparator, badInstant, badId)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ProjectCursor.decode(cursor));
+            assertEquals("Invalid cursor", e.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> service.getPage("not base64!", 5));
+    }
+
+    @Test
+    void walkingThePagesVisitsEveryProjectOnceInListOrder() {
+        List<Long> expected = service.getProjects(null).stream().map(ProjectResponseDTO::id).toList();
+        int total = expected.size();
+
+        // Page sizes that split the ties, divide the total exactly, equal it and exceed it
+        for (int limit : new int[]{1, 5, TIED, total - 1, total, total + 1}) {
+            assertEquals(expected, walk(limit, service::getPage, ProjectResponseDTO::id), "limit " + limit);
+            assertEquals(expected, walk(limit, service::getCardPage, ProjectCardDTO::id), "card limit " + limit);
+        }
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        int total = service.getProjects(null).size();
+
+        ProjectPageDTO<ProjectResponseDTO> all = service.getPage(null, total);
+        assertEquals(total, all.items().size());
+        assertNull(all.nextCursor());
+
+        ProjectPageDTO<ProjectResponseDTO> allButOne = service.getPage(null, total - 1);
+        assertNotNull(allButOne.nextCursor());
+        ProjectPageDTO<ProjectResponseDTO> last = service.getPage(allButOne.nextCursor(), total - 1);
+        assertEquals(1, last.items().size());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertEquals(1, service.getPage(null, 0).items().size());
+        assertEquals(1, service.getPage(null, -5).items().size());
+        assertTrue(service.getPage(null, 10_000).items().size() <= 100);
+    }
+
+    private static <T> List<Long> walk(int limit, BiFunction<String, Integer, ProjectPageDTO<T>> fetch, Function<T, Long> id) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProjectPageDTO<T> page = fetch.apply(cursor, limit);
+            assertFalse(page.items().isEmpty(), "empty page after " + ids.size() + " items");
+            assertTrue(page.items().size() <= limit);
+            page.items().forEach(item -> ids.add(id.apply(item)));
+            cursor = page.nextCursor();
+            assertTrue(++pages <= 1000, "cursor does not advance");
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.data.Project;
+import com.example.backend.project.data.ProjectRepository;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectReadModelTest {
+
+    private final ProjectRepository repo = mock(ProjectRepository.class);
+    private final ProjectReadModel model =
+            new ProjectReadModel(repo, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @Test
+    void firstReadLoadsOnceAndLaterReadsShareTheSnapshot() {
+        when(repo.findAllByOrderByCreatedAtDescIdDesc()).thenReturn(List.of(project(2, "b"), project(1, "a")));
+
+        ProjectReadModel.Snapshot first = model.current();
+        ProjectReadModel.Snapshot second = model.current();
+
+        assertSame(first, second);
+        verify(repo, times(1)).findAllByOrderByCreatedAtDescIdDesc();
+        assertEquals(List.of(2L, 1L), first.projects().stream().map(ProjectResponseDTO::id).toList());
+        assertEquals("a", first.byId().get(1L).slug());
+        assertEquals(2L, first.bySlug().get("b").id());
+    }
+
+    @Test
+    void projectWriteRebuildsTheSnapshotAndOtherWritesDoNot() {
+        when(repo.findAllByOrderByCreatedAtDescIdDesc())
+                .thenReturn(List.of(project(1, "a")))
+                .thenReturn(List.of(project(2, "b"), project(1, "a")));
+        ProjectReadModel.Snapshot before = model.current();
+
+        model.onContentChanged(new ContentChangedEvent(ContentType.SKILLS, 7L));
+        assertSame(before, model.current());
+
+        model.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 2L));
+        ProjectReadModel.Snapshot after = model.current();
+
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(2, after.projects().size());
+        assertNotNull(after.bySlug().get("b"));
+        verify(repo, times(2)).findAllByOrderByCreatedAtDescIdDesc();
+    }
+
+    @Test
+    void failedRebuildDropsTheSnapshotSoTheNextReadReloads() {
+        when(repo.findAllByOrderByCreatedAtDescIdDesc())
+                .thenReturn(List.of(project(1, "a")))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(project(1, "renamed")));
+        model.current();
+
+        model.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 1L));
+
+        assertEquals("renamed", model.current().byId().get(1L).slug());
+        verify(repo, times(3)).findAllByOrderByCreatedAtDescIdDesc();
+    }
+
+    @Test
+    void snapshotCannotBeModifiedByReaders() {
+        when(repo.findAllByOrderByCreatedAtDescIdDesc()).thenReturn(List.of(project(1, "a")));
+        ProjectReadModel.Snapshot snapshot = model.current();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.projects().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.byId().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.bySlug().clear());
+    }
+
+    private static Project project(long id, String slug) {
+        return Project.builder()
+                .id(id)
+                .title("Project " + slug)
+                .slug(slug)
+                .description("Description of " + slug)
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(id))
+                .build();
+    }
+}
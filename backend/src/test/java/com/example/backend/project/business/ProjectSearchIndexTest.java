@@ -0,0 +1,118 @@
+package com.example.backend.project.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectSearchIndexTest {
+
+    private final ProjectReadModel readModel = mock(ProjectReadModel.class);
+    private final ProjectSearchIndex index = new ProjectSearchIndex(readModel);
+
+    @BeforeEach
+    void seed() {
+        serve(
+                project(1, "Portfolio Tracker", "portfolio-tracker", "Tracks investments over time"),
+                project(2, "Task Board", "task-board", "Kanban tracker for small teams"),
+                project(3, "Crème Brûlée", "creme-brulee", "Recipe site")
+        );
+    }
+
+    @Test
+    void tokenizeFoldsCaseAndAccentsAndSplitsOnPunctuation() {
+        assertEquals(List.of("creme", "brulee", "api"), ProjectSearchIndex.tokenize("Crème-Brûlée  API, api!"));
+        assertEquals(List.of("v2", "spring"), ProjectSearchIndex.tokenize("v2/Spring"));
+        assertEquals(List.of(), ProjectSearchIndex.tokenize("  -- "));
+        assertEquals(List.of(), ProjectSearchIndex.tokenize(null));
+    }
+
+    @Test
+    void everyTokenMustMatchAsAPrefix() {
+        assertEquals(Set.of(1L, 2L), index.search("track").keySet());
+        assertEquals(Set.of(2L), index.search("track kanban").keySet());
+        assertEquals(Set.of(3L), index.search("CREME bru").keySet());
+        assertTrue(index.search("track recipe").isEmpty());
+        assertTrue(index.search("   ").isEmpty());
+    }
+
+    @Test
+    void titleOutranksDescriptionAndExactOutranksPrefix() {
+        Map<Long, Integer> exact = index.search("tracker");
+        // Title weight 3 against description weight 1, both doubled for an exact term
+        assertEquals(6, exact.get(1L));
+        assertEquals(2, exact.get(2L));
+
+        Map<Long, Integer> prefix = index.search("trac");
+        assertEquals(3, prefix.get(1L));
+        assertEquals(1, prefix.get(2L));
+    }
+
+    @Test
+    void scoresOfSeveralTokensAddUp() {
+        // "portfolio" is in the title (3) and slug, "time" only in the description (1); both exact
+        assertEquals(8, index.search("portfolio time").get(1L));
+    }
+
+    @Test
+    void changedAndDeletedProjectsAreReindexedOneByOne() {
+        index.search("warm up");
+
+        serve(
+                project(1, "Portfolio Tracker", "portfolio-tracker", "Tracks investments over time"),
+                project(2, "Sprint Board", "sprint-board", "Scrum tool")
+        );
+        index.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 2L));
+        index.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 3L));
+
+        assertTrue(index.search("kanban").isEmpty());
+        assertEquals(Set.of(2L), index.search("scrum").keySet());
+        assertTrue(index.search("creme").isEmpty());
+        assertEquals(Set.of(1L), index.search("track").keySet());
+    }
+
+    @Test
+    void bulkChangeRebuildsTheWholeIndex() {
+        index.search("warm up");
+
+        serve(project(4, "Weather Station", "weather-station", "Sensors"));
+        index.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, null));
+
+        assertTrue(index.search("track").isEmpty());
+        assertEquals(Set.of(4L), index.search("weather").keySet());
+    }
+
+    @Test
+    void otherContentTypesAreIgnored() {
+        index.search("warm up");
+        serve(project(5, "Ignored", "ignored", "Not indexed"));
+
+        index.onContentChanged(new ContentChangedEvent(ContentType.SKILLS, null));
+
+        assertTrue(index.search("ignored").isEmpty());
+    }
+
+    private void serve(ProjectResponseDTO... projects) {
+        List<ProjectResponseDTO> list = List.of(projects);
+        when(readModel.current()).thenReturn(new ProjectReadModel.Snapshot(
+                1,
+                list,
+                list.stream().collect(Collectors.toMap(ProjectResponseDTO::id, Function.identity())),
+                list.stream().collect(Collectors.toMap(ProjectResponseDTO::slug, Function.identity()))));
+    }
+
+    private static ProjectResponseDTO project(long id, String title, String slug, String description) {
+        return new ProjectResponseDTO(id, title, slug, description, null, null, null, Instant.EPOCH, List.of());
+    }
+}
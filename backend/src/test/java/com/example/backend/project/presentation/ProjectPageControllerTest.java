@@ -0,0 +1,62 @@
+package com.example.backend.project.presentation;
+
+import com.example.backend.project.business.ProjectPageRenderer;
+import com.example.backend.project.business.ProjectService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ProjectPageControllerTest {
+
+    private final ProjectService projects = mock(ProjectService.class);
+    private final ProjectPageRenderer renderer =
+            new ProjectPageRenderer(projects, new ObjectMapper(), new SimpleMeterRegistry(), "", "");
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new ProjectPageController(renderer)).build();
+
+    @Test
+    void knownSlugRendersTheProject() throws Exception {
+        when(projects.findBySlug("task-board")).thenReturn(Optional.of(new ProjectResponseDTO(
+                1L, "Task Board", "task-board", "Kanban for <small> teams", null, null, null, Instant.EPOCH, List.of())));
+
+        mvc.perform(get("/projects/task-board"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(header().exists("ETag"))
+                .andExpect(content().string(containsString("<h1>Task Board</h1>")))
+                .andExpect(content().string(containsString("Kanban for &lt;small&gt; teams")));
+    }
+
+    @Test
+    void unknownSlugIsAnHtml404() throws Exception {
+        when(projects.findBySlug("missing")).thenReturn(Optional.empty());
+
+        mvc.perform(get("/projects/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(content().string(containsString("<h1>Project not found</h1>")));
+    }
+
+    @Test
+    void deletedProjectStopsBeingServed() throws Exception {
+        when(projects.findBySlug("task-board")).thenReturn(Optional.of(new ProjectResponseDTO(
+                1L, "Task Board", "task-board", "Kanban", null, null, null, Instant.EPOCH, List.of())));
+        mvc.perform(get("/projects/task-board")).andExpect(status().isOk());
+
+        when(projects.findBySlug("task-board")).thenReturn(Optional.empty());
+
+        mvc.perform(get("/projects/task-board")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.backend.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    // Slow enough that no bucket refills while a test runs
+    private static final double NO_REFILL = 0.001;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void emptyBucketAnswers429WithRetryAfter() throws Exception {
+        RateLimitFilter filter = filter(limiter(2, NO_REFILL, 100));
+
+        assertEquals(HttpStatus.OK.value(), send(filter, read("10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.OK.value(), send(filter, read("10.0.0.1")).getStatus());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(read("10.0.0.1"), rejected, chain);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        // One token per 1000 seconds, rounded up to whole seconds
+        assertEquals("1000", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains("Too many requests"), rejected.getContentAsString());
+        assertNull(chain.getRequest());
+        assertEquals(1, rejected("public_read", "rate"));
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() throws Exception {
+        RateLimitFilter filter = filter(limiter(1, 10, 100));
+        send(filter, read("10.0.0.1"));
+
+        MockHttpServletResponse rejected = send(filter, read("10.0.0.1"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void clientsAndGroupsHaveSeparateBuckets() throws Exception {
+        RateLimitFilter filter = filter(limiter(1, NO_REFILL, 100));
+        send(filter, read("10.0.0.1"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), send(filter, read("10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.OK.value(), send(filter, read("10.0.0.2")).getStatus());
+        assertEquals(HttpStatus.OK.value(), send(filter, search("10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void requestsOutsideTheApiAndPreflightsAreNotLimited() throws Exception {
+        RateLimitFilter filter = filter(limiter(1, NO_REFILL, 100));
+        send(filter, read("10.0.0.1"));
+
+        MockHttpServletRequest page = new MockHttpServletRequest("GET", "/projects/demo");
+        page.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/projects");
+        preflight.setRemoteAddr("10.0.0.1");
+
+        assertEquals(HttpStatus.OK.value(), send(filter, page).getStatus());
+        assertEquals(HttpStatus.OK.value(), send(filter, preflight).getStatus());
+    }
+
+    @Test
+    void searchIsShedWith503WhenEverySlotIsBusy() throws Exception {
+        RateLimiter limiter = limiter(100, NO_REFILL, 100);
+        RateLimitFilter filter = filter(limiter);
+        assertTrue(limiter.tryEnterSearch());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse busy = new MockHttpServletResponse();
+        filter.doFilter(search("10.0.0.1"), busy, chain);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), busy.getStatus());
+        assertEquals("1", busy.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+        assertEquals(1, rejected("search", "concurrency"));
+        // Cached reads are not held back by busy searches
+        assertEquals(HttpStatus.OK.value(), send(filter, read("10.0.0.1")).getStatus());
+
+        limiter.exitSearch();
+        assertEquals(HttpStatus.OK.value(), send(filter, search("10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void searchSlotIsReleasedWhenTheRequestFails() throws Exception {
+        RateLimiter limiter = limiter(100, NO_REFILL, 100);
+        RateLimitFilter filter = filter(limiter);
+        AtomicBoolean heldSlot = new AtomicBoolean();
+        FilterChain failing = (request, response) -> {
+            heldSlot.set(!limiter.tryEnterSearch());
+            throw new IllegalStateException("boom");
+        };
+
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(search("10.0.0.1"), new MockHttpServletResponse(), failing));
+
+        assertTrue(heldSlot.get());
+        assertTrue(limiter.tryEnterSearch());
+    }
+
+    @Test
+    void clientsBeyondTheTrackingLimitShareAnOverflowBucket() {
+        RateLimiter limiter = limiter(1, NO_REFILL, 1);
+
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.2"));
+
+        assertTrue(limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.3") > 0);
+        assertTrue(limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.1") > 0);
+    }
+
+    @Test
+    void fullBucketsAreSweptToMakeRoomForNewClients() throws Exception {
+        RateLimiter limiter = limiter(2, 4, 1);
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.2"));
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.3"));
+        assertTrue(limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.4") > 0);
+
+        // Sweeps run at most once a second; by then the tracked bucket has refilled
+        Thread.sleep(1100);
+
+        // The third client takes the swept bucket's place, the fourth gets the overflow bucket to itself
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.3"));
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.3"));
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.4"));
+        assertEquals(0, limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.4"));
+        assertTrue(limiter.tryAcquire(RouteGroup.PUBLIC_READ, "10.0.0.4") > 0);
+    }
+
+    private RateLimiter limiter(int capacity, double perSecond, int maxTrackedClients) {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("app.rate-limit.max-tracked-clients", Integer.toString(maxTrackedClients))
+                .withProperty("app.rate-limit.search.max-concurrent", "1");
+        for (String group : new String[]{"public-read", "search", "admin-write"}) {
+            env.setProperty("app.rate-limit." + group + ".capacity", Integer.toString(capacity));
+            env.setProperty("app.rate-limit." + group + ".per-second", Double.toString(perSecond));
+        }
+        return new RateLimiter(env, registry);
+    }
+
+    private static RateLimitFilter filter(RateLimiter limiter) {
+        return new RateLimitFilter(limiter, new ObjectMapper());
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest read(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.setRemoteAddr(client);
+        return request;
+    }
+
+    private static MockHttpServletRequest search(String client) {
+        MockHttpServletRequest request = read(client);
+        request.setParameter("q", "spring");
+        return request;
+    }
+
+    private double rejected(String group, String reason) {
+        return registry.counter("http.server.requests.rejected", "group", group, "reason", reason).count();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void startsFullAndEmptiesOneTokenPerRequest() {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(3, 1), 0);
+
+        assertTrue(bucket.isFull(0));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(0));
+        }
+        assertFalse(bucket.isFull(0));
+        assertTrue(bucket.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void emptyBucketReportsTheWaitForTheNextToken() {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(1, 4), 0);
+        bucket.tryAcquire(0);
+
+        // Within a nanosecond, as the rate is held as a double
+        assertEquals(SECOND / 4d, bucket.tryAcquire(0), 1d);
+        // Partly refilled: only the rest of the token is left to wait for
+        assertEquals(SECOND / 8d, bucket.tryAcquire(SECOND / 8), 1d);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(10, 2), 0);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        // Two tokens a second, so just after one second exactly two requests pass
+        long later = SECOND + 1_000;
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(2, 1), 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        long later = 60 * SECOND;
+        assertTrue(bucket.isFull(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotRemoveTokens() {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(2, 1), SECOND);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(SECOND));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenFilterTest {
+
+    private AdminTokenService tokens;
+    private AdminTokenFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokens = new AdminTokenService("secret", Duration.ofMinutes(5));
+        filter = new AdminTokenFilter(tokens);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validBearerTokenAuthenticatesAsAdmin() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/admin/projects", "Bearer " + tokens.issue("admin").token()),
+                new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("admin", authentication.getName());
+        assertTrue(authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch("ROLE_ADMIN"::equals));
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void invalidTokenLeavesTheRequestUnauthenticated() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/admin/projects", "Bearer forged.token"), new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void basicCredentialsAreLeftToBasicAuthentication() throws Exception {
+        filter.doFilter(request("/api/admin/projects", "Basic YWRtaW46c2VjcmV0"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void tokenCannotBeTradedForANewOne() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(AdminTokenFilter.ISSUE_PATH, "Bearer " + tokens.issue("admin").token()),
+                new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest request(String path, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        return request;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenServiceTest {
+
+    @Test
+    void issuedTokenVerifiesToItsUsername() throws GeneralSecurityException {
+        AdminTokenService tokens = new AdminTokenService("secret", Duration.ofMinutes(5));
+
+        AdminTokenService.IssuedToken issued = tokens.issue("admin");
+
+        assertEquals(Optional.of("admin"), tokens.verify(issued.token()));
+        assertTrue(issued.expiresAt().isAfter(Instant.now().plus(Duration.ofMinutes(4))));
+    }
+
+    @Test
+    void usernamesMayContainTheSeparator() throws GeneralSecurityException {
+        AdminTokenService tokens = new AdminTokenService("secret", Duration.ofMinutes(5));
+
+        assertEquals(Optional.of("a:b"), tokens.verify(tokens.issue("a:b").token()));
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws GeneralSecurityException {
+        AdminTokenService tokens = new AdminTokenService("secret", Duration.ofSeconds(-1));
+
+        assertEquals(Optional.empty(), tokens.verify(tokens.issue("admin").token()));
+    }
+
+    @Test
+    void tokenSignedWithAnotherSecretIsRejected() throws GeneralSecurityException {
+        String token = new AdminTokenService("other", Duration.ofMinutes(5)).issue("admin").token();
+
+        assertEquals(Optional.empty(), new AdminTokenService("secret", Duration.ofMinutes(5)).verify(token));
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() throws GeneralSecurityException {
+        AdminTokenService tokens = new AdminTokenService("secret", Duration.ofMinutes(5));
+        String token = tokens.issue("admin").token();
+        String signature = token.substring(token.indexOf('.') + 1);
+
+        // Same signature, but a later expiry
+        long farFuture = Instant.now().plus(Duration.ofDays(365)).getEpochSecond();
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("admin:" + farFuture).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Optional.empty(), tokens.verify(payload + "." + signature));
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() throws GeneralSecurityException {
+        AdminTokenService tokens = new AdminTokenService("secret", Duration.ofMinutes(5));
+        String token = tokens.issue("admin").token();
+        int dot = token.indexOf('.');
+        // The first signature character is all data bits; the last one also carries padding bits
+        char first = token.charAt(dot + 1);
+
+        String flipped = token.substring(0, dot + 1) + (first == 'A' ? 'B' : 'A') + token.substring(dot + 2);
+        String truncated = token.substring(0, token.length() - 2);
+
+        assertEquals(Optional.empty(), tokens.verify(flipped));
+        assertEquals(Optional.empty(), tokens.verify(truncated));
+    }
+
+    @Test
+    void malformedTokensAreRejected() throws GeneralSecurityException {
+        AdminTokenService tokens = new AdminTokenService("secret", Duration.ofMinutes(5));
+
+        assertEquals(Optional.empty(), tokens.verify(""));
+        assertEquals(Optional.empty(), tokens.verify("no-dot"));
+        assertEquals(Optional.empty(), tokens.verify(".signature-only"));
+        assertEquals(Optional.empty(), tokens.verify("not base64!.also not base64!"));
+    }
+
+    @Test
+    void withoutSecretEachInstanceSignsWithItsOwnKey() throws GeneralSecurityException {
+        String token = new AdminTokenService("", Duration.ofMinutes(5)).issue("admin").token();
+
+        assertEquals(Optional.empty(), new AdminTokenService("", Duration.ofMinutes(5)).verify(token));
+    }
+}
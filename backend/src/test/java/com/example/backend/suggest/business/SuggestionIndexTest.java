@@ -0,0 +1,157 @@
+package com.example.backend.suggest.business;
+
+import com.example.backend.content.ContentChangedEvent;
+import com.example.backend.content.ContentType;
+import com.example.backend.project.business.ProjectReadModel;
+import com.example.backend.project.presentation.ProjectResponseDTO;
+import com.example.backend.skill.business.SkillService;
+import com.example.backend.skill.presentation.SkillResponseDTO;
+import com.example.backend.suggest.presentation.SuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SuggestionIndexTest {
+
+    private final ProjectReadModel readModel = mock(ProjectReadModel.class);
+    private final SkillService skillService = mock(SkillService.class);
+    private final SuggestionIndex index = new SuggestionIndex(readModel, skillService);
+
+    @BeforeEach
+    void seed() {
+        serve(
+                project(1, "Portfolio Tracker", "portfolio-tracker"),
+                project(2, "Task Board", "task-board"),
+                project(3, "Crème Brûlée", "creme-brulee")
+        );
+        when(skillService.list()).thenReturn(List.of(
+                skill(1, "Java"),
+                skill(2, "Spring Boot"),
+                skill(3, "Docker")
+        ));
+        index.load();
+        clearInvocations(readModel, skillService);
+    }
+
+    @Test
+    void requestsNeverLoadTheData() {
+        SuggestionIndex cold = new SuggestionIndex(readModel, skillService);
+
+        assertEquals(List.of(), cold.suggest("java", 5));
+        verifyNoInteractions(readModel, skillService);
+
+        cold.load();
+        cold.load();
+
+        assertEquals(List.of("Java"), labels(cold.suggest("java", 5)));
+        verify(skillService, times(1)).list();
+    }
+
+    @Test
+    void changeBeforeTheWarmUpFillsTheIndex() {
+        SuggestionIndex cold = new SuggestionIndex(readModel, skillService);
+
+        cold.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 1L));
+
+        assertEquals(List.of("Docker"), labels(cold.suggest("docker", 5)));
+    }
+
+    @Test
+    void warmUpFillsTheIndexInTheBackground() throws InterruptedException {
+        SuggestionIndex cold = new SuggestionIndex(readModel, skillService);
+
+        cold.warmUp();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (cold.suggest("java", 5).isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the warm-up");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void everyWordStartIsAKey() {
+        assertEquals(List.of(new SuggestionDTO(SuggestionDTO.Type.PROJECT, "Portfolio Tracker", "portfolio-tracker", 0)),
+                index.suggest("track", 5));
+        assertEquals(List.of("Crème Brûlée"), labels(index.suggest("BRULEE", 5)));
+    }
+
+    @Test
+    void exactMatchesRankBeforeTypos() {
+        // "boo" is one substitution away from "boa"
+        assertEquals(List.of(
+                new SuggestionDTO(SuggestionDTO.Type.PROJECT, "Task Board", "task-board", 0),
+                new SuggestionDTO(SuggestionDTO.Type.SKILL, "Spring Boot", null, 1)
+        ), index.suggest("boa", 5));
+    }
+
+    @Test
+    void allowedTyposGrowWithThePrefix() {
+        assertEquals(List.of(), index.suggest("tx", 5));
+        assertEquals(List.of("Portfolio Tracker"), labels(index.suggest("trak", 5)));
+        // A swapped pair costs two edits, which only longer prefixes may spend
+        assertEquals(List.of(), index.suggest("trcak", 5));
+        assertEquals(List.of("Portfolio Tracker"), labels(index.suggest("trcaker", 5)));
+    }
+
+    @Test
+    void limitIsClampedAndBlankPrefixMatchesNothing() {
+        assertEquals(1, index.suggest("boot", 0).size());
+        assertEquals(List.of(), index.suggest(" -- ", 5));
+        assertEquals(List.of(), index.suggest(null, 5));
+    }
+
+    @Test
+    void changedAndDeletedProjectsArePatched() {
+        serve(
+                project(1, "Portfolio Tracker", "portfolio-tracker"),
+                project(2, "Sprint Board", "sprint-board")
+        );
+        index.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 2L));
+        index.onContentChanged(new ContentChangedEvent(ContentType.PROJECTS, 3L));
+
+        assertEquals(List.of(), index.suggest("task", 5));
+        assertEquals(List.of("Sprint Board"), labels(index.suggest("sprint board", 5)));
+        assertEquals(List.of(), index.suggest("creme", 5));
+        assertEquals(List.of("Portfolio Tracker"), labels(index.suggest("portfolio", 5)));
+    }
+
+    @Test
+    void skillChangesAreSynced() {
+        when(skillService.list()).thenReturn(List.of(skill(1, "Java"), skill(3, "Kubernetes")));
+        index.onContentChanged(new ContentChangedEvent(ContentType.SKILLS, 3L));
+
+        assertEquals(List.of(), index.suggest("docker", 5));
+        assertEquals(List.of(), index.suggest("spring", 5));
+        assertEquals(List.of("Kubernetes"), labels(index.suggest("kube", 5)));
+        assertEquals(List.of("Java"), labels(index.suggest("java", 5)));
+    }
+
+    private void serve(ProjectResponseDTO... projects) {
+        List<ProjectResponseDTO> list = List.of(projects);
+        when(readModel.current()).thenReturn(new ProjectReadModel.Snapshot(
+                1,
+                list,
+                list.stream().collect(Collectors.toMap(ProjectResponseDTO::id, Function.identity())),
+                list.stream().collect(Collectors.toMap(ProjectResponseDTO::slug, Function.identity()))));
+    }
+
+    private static ProjectResponseDTO project(long id, String title, String slug) {
+        return new ProjectResponseDTO(id, title, slug, "", null, null, null, Instant.EPOCH, List.of());
+    }
+
+    private static SkillResponseDTO skill(long id, String name) {
+        return new SkillResponseDTO(id, "Backend", name, (int) id);
+    }
+
+    private static List<String> labels(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::label).toList();
+    }
+}
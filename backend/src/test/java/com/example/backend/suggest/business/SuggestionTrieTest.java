@@ -0,0 +1,129 @@
+package com.example.backend.suggest.business;
+
+import com.example.backend.suggest.presentation.SuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    private static final SuggestionTrie.Entry JAVA = skill("Java");
+    private static final SuggestionTrie.Entry JAVASCRIPT = skill("JavaScript");
+    private static final SuggestionTrie.Entry LAVA_LAMP = new SuggestionTrie.Entry(SuggestionDTO.Type.PROJECT, "Lava Lamp", "lava-lamp");
+    private static final SuggestionTrie.Entry KOTLIN = skill("Kotlin");
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+
+    @BeforeEach
+    void seed() {
+        trie.add("java", JAVA);
+        trie.add("javascript", JAVASCRIPT);
+        trie.add("lava lamp", LAVA_LAMP);
+        trie.add("lamp", LAVA_LAMP);
+        trie.add("kotlin", KOTLIN);
+    }
+
+    @Test
+    void exactPrefixFindsEveryEntryBelowIt() {
+        assertEquals(List.of(Map.entry(JAVA, 0), Map.entry(JAVASCRIPT, 0)), trie.search("jav", 0, 10));
+        assertEquals(List.of(Map.entry(JAVASCRIPT, 0)), trie.search("javas", 0, 10));
+        assertEquals(List.of(), trie.search("javax", 0, 10));
+    }
+
+    @Test
+    void typosWithinTheBudgetAreFound() {
+        // Substitution, insertion and deletion each cost one edit
+        assertEquals(List.of(Map.entry(KOTLIN, 1)), trie.search("kotkin", 1, 10));
+        assertEquals(List.of(Map.entry(KOTLIN, 1)), trie.search("kotllin", 1, 10));
+        assertEquals(List.of(Map.entry(KOTLIN, 1)), trie.search("kolin", 1, 10));
+
+        assertEquals(List.of(), trie.search("kotkin", 0, 10));
+        assertEquals(List.of(Map.entry(KOTLIN, 2)), trie.search("kitkin", 2, 10));
+    }
+
+    @Test
+    void closerMatchesRankFirstThenAlphabetically() {
+        // "lava" is one substitution away from "java"
+        assertEquals(List.of(Map.entry(JAVA, 0), Map.entry(JAVASCRIPT, 0), Map.entry(LAVA_LAMP, 1)),
+                trie.search("java", 1, 10));
+    }
+
+    @Test
+    void entryReachableFromSeveralKeysIsListedOnceWithItsBestDistance() {
+        // Two edits away through "lava lamp", exact through "lamp"
+        List<Map.Entry<SuggestionTrie.Entry, Integer>> matches = trie.search("lamp", 2, 10);
+
+        assertEquals(List.of(Map.entry(LAVA_LAMP, 0)), matches);
+    }
+
+    @Test
+    void resultIsCutAtTheLimit() {
+        assertEquals(List.of(Map.entry(JAVA, 0)), trie.search("java", 1, 1));
+        assertEquals(List.of(Map.entry(JAVA, 0), Map.entry(JAVASCRIPT, 0)), trie.search("java", 1, 2));
+    }
+
+    @Test
+    void topEntryIsFoundEvenWhenItsKeyComesLast() {
+        SuggestionTrie.Entry zebraApple = skill("Zebra Apple");
+        SuggestionTrie.Entry applePie = skill("Apple Pie");
+        trie.add("zebra apple", zebraApple);
+        trie.add("apple", zebraApple);
+        trie.add("apple pie", applePie);
+
+        // "apple" is walked before "apple pie", but "Apple Pie" sorts first by label
+        assertEquals(List.of(Map.entry(applePie, 0)), trie.search("apple", 0, 1));
+        assertEquals(List.of(Map.entry(applePie, 0), Map.entry(zebraApple, 0)), trie.search("apple", 0, 2));
+    }
+
+    @Test
+    void closerEntryFoundLaterStillWins() {
+        // "java" is walked before "lava lamp" and is one edit away
+        assertEquals(List.of(Map.entry(LAVA_LAMP, 0)), trie.search("lava", 1, 1));
+    }
+
+    @Test
+    void removingAnEntryKeepsOthersOnTheSamePath() {
+        trie.remove("java", JAVA);
+
+        assertEquals(List.of(Map.entry(JAVASCRIPT, 0)), trie.search("jav", 0, 10));
+    }
+
+    @Test
+    void removingKeepsOtherEntriesUnderTheSameKey() {
+        SuggestionTrie.Entry javaProject = new SuggestionTrie.Entry(SuggestionDTO.Type.PROJECT, "Java", "java");
+        trie.add("java", javaProject);
+
+        trie.remove("java", JAVA);
+
+        assertEquals(List.of(Map.entry(javaProject, 0), Map.entry(JAVASCRIPT, 0)), trie.search("java", 0, 10));
+    }
+
+    @Test
+    void removingSomethingAbsentChangesNothing() {
+        trie.remove("java", KOTLIN);
+        trie.remove("jakarta", JAVA);
+        trie.remove("", JAVA);
+
+        assertEquals(List.of(Map.entry(JAVA, 0), Map.entry(JAVASCRIPT, 0)), trie.search("jav", 0, 10));
+    }
+
+    @Test
+    void branchEmptiedByRemovalCanBeFilledAgain() {
+        trie.remove("javascript", JAVASCRIPT);
+        trie.remove("java", JAVA);
+        assertEquals(List.of(), trie.search("ja", 0, 10));
+
+        trie.add("javascript", JAVASCRIPT);
+
+        assertEquals(List.of(Map.entry(JAVASCRIPT, 0)), trie.search("ja", 0, 10));
+        assertEquals(List.of(Map.entry(KOTLIN, 0)), trie.search("k", 0, 10));
+    }
+
+    private static SuggestionTrie.Entry skill(String label) {
+        return new SuggestionTrie.Entry(SuggestionDTO.Type.SKILL, label, null);
+    }
+}
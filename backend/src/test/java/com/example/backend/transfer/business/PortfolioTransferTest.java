@@ -0,0 +1,165 @@
+package com.example.backend.transfer.business;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.transfer.presentation.ImportResultDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports one instance's data and imports it into another, as a backup is restored into a new
+ * database.
+ */
+class PortfolioTransferTest {
+
+    // Links first, so emptying the tables in this order never breaks a foreign key
+    private static final List<String> TABLES = List.of("project_skills", "projects", "skills", "experience", "education");
+
+    private ConfigurableApplicationContext source;
+    private ConfigurableApplicationContext target;
+
+    @BeforeEach
+    void startInstances() {
+        source = start();
+        target = start();
+
+        // Link every project to the first two skills, so links travel too
+        source.getBean(JdbcTemplate.class).update("""
+                INSERT INTO project_skills (project_id, skill_id)
+                SELECT p.id, s.id FROM projects p, (SELECT id FROM skills ORDER BY id LIMIT 2) s""");
+
+        JdbcTemplate empty = target.getBean(JdbcTemplate.class);
+        for (String table : TABLES) {
+            empty.update("DELETE FROM " + table);
+        }
+    }
+
+    @AfterEach
+    void stopInstances() {
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void importedExportReproducesTheDataset() throws IOException {
+        String exported = export(source);
+
+        ImportResultDTO result = target.getBean(PortfolioTransferService.class)
+                .importFrom(new ByteArrayInputStream(exported.getBytes(StandardCharsets.UTF_8)));
+
+        JdbcTemplate jdbc = source.getBean(JdbcTemplate.class);
+        assertEquals(new ImportResultDTO(
+                count(jdbc, "projects"),
+                count(jdbc, "experience"),
+                count(jdbc, "education"),
+                count(jdbc, "skills"),
+                count(jdbc, "project_skills")
+        ), result);
+        assertTrue(result.projectSkills() > 0);
+
+        // Ids are assigned by the target database, everything else must match line for line
+        assertEquals(withoutIds(exported), withoutIds(export(target)));
+    }
+
+    @Test
+    void importingTheSameExportTwiceChangesNothing() throws IOException {
+        byte[] exported = export(source).getBytes(StandardCharsets.UTF_8);
+        PortfolioTransferService transfer = target.getBean(PortfolioTransferService.class);
+        transfer.importFrom(new ByteArrayInputStream(exported));
+        String once = export(target);
+        List<Long> counts = counts(target.getBean(JdbcTemplate.class));
+
+        transfer.importFrom(new ByteArrayInputStream(exported));
+
+        assertEquals(counts, counts(target.getBean(JdbcTemplate.class)));
+        assertEquals(withoutIds(once), withoutIds(export(target)));
+    }
+
+    @Test
+    void skillsAreExportedBeforeTheProjectsNamingThem() {
+        List<String> types = export(source).lines()
+                .map(line -> json(line).path("type").asString())
+                .distinct()
+                .toList();
+
+        assertEquals(List.of("skill", "project", "experience", "education"), types);
+    }
+
+    @Test
+    void malformedLineStopsTheImportWithItsLineNumber() {
+        String input = """
+                {"type":"skill","data":{"category":"Tools","name":"Git","sortOrder":1}}
+
+                {"type":"skill","data":{"category":"Tools"}}
+                """;
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> target.getBean(PortfolioTransferService.class)
+                .importFrom(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))));
+
+        assertTrue(e.getMessage().startsWith("Import failed at line 3"), e.getMessage());
+    }
+
+    @Test
+    void unknownTypeIsRejected() {
+        String input = "{\"type\":\"invoice\",\"data\":{}}\n";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> target.getBean(PortfolioTransferService.class)
+                .importFrom(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals("Import failed at line 1: unknown type 'invoice'", e.getMessage());
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BackendApplication.class).run(
+                "--ADMIN_USERNAME=test",
+                "--ADMIN_PASSWORD=test",
+                "--server.port=0",
+                // Both instances share the JVM's JCache provider; see application-no-l2.yml
+                "--spring.profiles.active=test,no-l2",
+                "--spring.datasource.url=jdbc:h2:mem:transfer-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--app.invalidation.enabled=false");
+    }
+
+    private static String export(ConfigurableApplicationContext ctx) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ctx.getBean(PortfolioTransferService.class).exportTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> withoutIds(String ndjson) {
+        return ndjson.lines()
+                .map(line -> {
+                    JsonNode node = json(line);
+                    ((ObjectNode) node.path("data")).remove("id");
+                    return node;
+                })
+                .toList();
+    }
+
+    private JsonNode json(String line) {
+        return source.getBean(ObjectMapper.class).readTree(line);
+    }
+
+    private static List<Long> counts(JdbcTemplate jdbc) {
+        return TABLES.stream().map(table -> count(jdbc, table)).toList();
+    }
+
+    private static long count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
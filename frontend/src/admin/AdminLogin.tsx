@@ -1,5 +1,5 @@
 import { useState } from "react";
-import { setAdminCreds } from "./adminAuth";
+import { setAdminSession } from "./adminAuth";
 
 type Props = { onSuccess: () => void };
 
@@ -23,7 +23,7 @@ export default function AdminLogin({ onSuccess }: Props) {
     setLoading(true);
 
     try {
-      // 1) Temporarily build a Basic Auth header to test credentials
+      // 1) Basic Auth is only sent here, to exchange the credentials for a session token
       const token = btoa(`${username.trim()}:${password}`);
 
       const res = await fetch(`${BASE_URL}/api/admin/auth-check`, {
@@ -43,8 +43,9 @@ export default function AdminLogin({ onSuccess }: Props) {
         return;
       }
 
-      // 2) Only store creds after verification succeeds
-      setAdminCreds({ username: username.trim(), password });
+      // 2) Keep the issued token; later admin calls authenticate with it
+      const { token: sessionToken, expiresAt } = await res.json();
+      setAdminSession({ token: sessionToken, expiresAt });
       onSuccess();
     } catch {
       setErr("Could not reach the server. Is the backend running?");
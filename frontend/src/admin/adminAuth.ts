@@ -1,31 +1,33 @@
-const KEY = "admin_basic_auth_v1";
+const KEY = "admin_session_v1";
 
-export type AdminCreds = { username: string; password: string };
+// Short-lived bearer token issued by /api/admin/auth-check; the password itself is never stored
+export type AdminSession = { token: string; expiresAt: string };
 
-export function getAdminCreds(): AdminCreds | null {
+export function getAdminSession(): AdminSession | null {
   try {
     const raw = sessionStorage.getItem(KEY);
     if (!raw) return null;
     const parsed = JSON.parse(raw);
-    if (!parsed?.username || !parsed?.password) return null;
-    return parsed as AdminCreds;
+    if (!parsed?.token || !parsed?.expiresAt) return null;
+    if (Date.parse(parsed.expiresAt) <= Date.now()) return null;
+    return parsed as AdminSession;
   } catch {
     return null;
   }
 }
 
-export function setAdminCreds(creds: AdminCreds) {
-  sessionStorage.setItem(KEY, JSON.stringify(creds));
+export function setAdminSession(session: AdminSession) {
+  sessionStorage.setItem(KEY, JSON.stringify(session));
 }
 
-export function clearAdminCreds() {
+export function clearAdminSession() {
   sessionStorage.removeItem(KEY);
 }
 
 export function isAdminLoggedIn(): boolean {
-  return getAdminCreds() !== null;
+  return getAdminSession() !== null;
 }
 
 export function logoutAdmin() {
-  clearAdminCreds();
+  clearAdminSession();
 }
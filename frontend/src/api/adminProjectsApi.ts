@@ -1,5 +1,5 @@
 import type { Project } from "./projectsApi";
-import { getAdminCreds } from "../admin/adminAuth";
+import { getAdminSession } from "../admin/adminAuth";
 
 const BASE_URL = import.meta.env.VITE_API_URL ?? "http://localhost:8080";
 
@@ -10,23 +10,19 @@ export type ProjectUpsert = {
   imageUrl?: string | null;
   liveUrl?: string | null;
   githubUrl?: string | null;
+  skillIds?: number[];
 };
 
-function basicAuthHeader(username: string, password: string) {
-  const token = btoa(`${username}:${password}`);
-  return `Basic ${token}`;
-}
-
 async function request<T>(path: string, init: RequestInit): Promise<T> {
-  const creds = getAdminCreds();
-  if (!creds) throw Object.assign(new Error("Not logged in."), { status: 401 });
+  const session = getAdminSession();
+  if (!session) throw Object.assign(new Error("Not logged in."), { status: 401 });
 
   const res = await fetch(`${BASE_URL}${path}`, {
     ...init,
     headers: {
       "Content-Type": "application/json",
       ...(init.headers ?? {}),
-      Authorization: basicAuthHeader(creds.username, creds.password),
+      Authorization: `Bearer ${session.token}`,
     },
   });
 
@@ -1,4 +1,4 @@
-import { getAdminCreds } from "../admin/adminAuth";
+import { getAdminSession } from "../admin/adminAuth";
 
 const BASE_URL = import.meta.env.VITE_API_URL ?? "http://localhost:8080";
 
@@ -6,20 +6,18 @@ export async function adminRequest<T>(
   path: string,
   options: RequestInit = {}
 ): Promise<T> {
-  const creds = getAdminCreds();
-  if (!creds) {
+  const session = getAdminSession();
+  if (!session) {
     const err: any = new Error("Not logged in");
     err.status = 401;
     throw err;
   }
 
-  const token = btoa(`${creds.username}:${creds.password}`);
-
   const res = await fetch(`${BASE_URL}${path}`, {
     ...options,
     headers: {
       ...(options.headers ?? {}),
-      Authorization: `Basic ${token}`,
+      Authorization: `Bearer ${session.token}`,
       "Content-Type": "application/json",
     },
   });
@@ -0,0 +1,51 @@
+export type ContentType = "PROJECTS" | "EXPERIENCES" | "EDUCATIONS" | "SKILLS";
+
+// id is null when many rows of the type changed at once
+export type ContentChange = {
+  type: ContentType;
+  id: number | null;
+  version: number;
+};
+
+type Listener = {
+  types: ContentType[];
+  onChange: () => void;
+};
+
+const BASE_URL = import.meta.env.VITE_API_URL ?? "http://localhost:8080";
+
+// One EventSource shared by every subscriber; it reconnects on its own and resumes with Last-Event-ID
+let source: EventSource | null = null;
+const listeners = new Set<Listener>();
+
+function open(): EventSource {
+  const es = new EventSource(`${BASE_URL}/api/changes`);
+
+  es.addEventListener("change", (e) => {
+    const change: ContentChange = JSON.parse((e as MessageEvent).data);
+    listeners.forEach((l) => {
+      if (l.types.includes(change.type)) l.onChange();
+    });
+  });
+
+  // The server could not replay what we missed: everything may be stale
+  es.addEventListener("reset", () => {
+    listeners.forEach((l) => l.onChange());
+  });
+
+  return es;
+}
+
+export function subscribeToChanges(types: ContentType[], onChange: () => void): () => void {
+  const listener: Listener = { types, onChange };
+  listeners.add(listener);
+  if (!source) source = open();
+
+  return () => {
+    listeners.delete(listener);
+    if (listeners.size === 0 && source) {
+      source.close();
+      source = null;
+    }
+  };
+}
@@ -0,0 +1,19 @@
+import type { Project } from "./projectsApi";
+import type { Experience } from "./experienceApi";
+import type { Education } from "./educationApi";
+import type { Skill } from "./skillsApi";
+
+export type Portfolio = {
+  projects: Project[];
+  experiences: Experience[];
+  educations: Education[];
+  skills: Skill[];
+};
+
+const BASE_URL = import.meta.env.VITE_API_URL ?? "http://localhost:8080";
+
+export async function fetchPortfolio(): Promise<Portfolio> {
+  const res = await fetch(`${BASE_URL}/api/portfolio`);
+  if (!res.ok) throw new Error("Failed to load portfolio");
+  return res.json();
+}
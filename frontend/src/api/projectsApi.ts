@@ -7,17 +7,26 @@ export type Project = {
   liveUrl?: string | null;
   githubUrl?: string | null;
   createdAt?: string;
+  skillIds?: number[];
+};
+
+export type ProjectFacets = {
+  projects: Project[];
+  skills: { id: number; category: string; name: string; count: number }[];
+  categories: { name: string; count: number }[];
 };
 
 const BASE_URL = import.meta.env.VITE_API_URL ?? "http://localhost:8080";
 
-export async function fetchProjects(q?: string): Promise<Project[]> {
+// Projects having every given skill (by name) and any skill of the category, with facet counts
+export async function fetchProjectFacets(skills: string[], category?: string, q?: string): Promise<ProjectFacets> {
   const url = new URL("/api/projects", BASE_URL);
+  url.searchParams.set("skills", skills.join(","));
+  if (category) url.searchParams.set("category", category);
   if (q && q.trim()) url.searchParams.set("q", q.trim());
 
-  const res = await fetch(url.toString(), {
-    headers: { "Content-Type": "application/json" },
-  });
+  // No custom headers: keeps this a simple CORS request the browser can revalidate with If-None-Match
+  const res = await fetch(url.toString());
 
   if (!res.ok) {
     const text = await res.text().catch(() => "");
@@ -26,3 +35,52 @@ export async function fetchProjects(q?: string): Promise<Project[]> {
 
   return res.json();
 }
+
+export async function fetchProject(slug: string): Promise<Project> {
+  const res = await fetch(new URL(`/api/projects/${encodeURIComponent(slug)}`, BASE_URL).toString());
+
+  if (!res.ok) {
+    const text = await res.text().catch(() => "");
+    throw new Error(`Failed to load project (${res.status}): ${text}`);
+  }
+
+  return res.json();
+}
+
+// Set by the server-rendered /projects/{slug} page; saves the first fetch when the app takes over it
+export function prerenderedProject(slug: string): Project | null {
+  const el = document.getElementById("project-data");
+  if (!el?.textContent) return null;
+  try {
+    const project = JSON.parse(el.textContent) as Project;
+    return project.slug === slug ? project : null;
+  } catch {
+    return null;
+  }
+}
+
+// Short, stable hash of the source image URL; changes the thumbnail URL when the image does.
+// The backend computes the same one (ImageVariantStore.version) and only caches matching URLs for long
+function imageVersion(imageUrl: string): string {
+  let h = 5381;
+  for (let i = 0; i < imageUrl.length; i++) {
+    h = ((h << 5) + h + imageUrl.charCodeAt(i)) | 0;
+  }
+  return (h >>> 0).toString(36);
+}
+
+export function projectImageUrl(project: Project, width: number): string {
+  const url = new URL(`/api/images/${encodeURIComponent(project.slug)}`, BASE_URL);
+  url.searchParams.set("w", String(width));
+  url.searchParams.set("v", imageVersion(project.imageUrl ?? ""));
+  return url.toString();
+}
+
+// IMAGE_WIDTHS in the backend's ProjectPageRenderer; both pages must offer the same variants
+export const PROJECT_IMAGE_WIDTHS = [320, 480, 640, 960];
+
+export function projectImageSrcSet(project: Project): string {
+  return PROJECT_IMAGE_WIDTHS
+    .map((w) => `${projectImageUrl(project, w)} ${w}w`)
+    .join(", ");
+}
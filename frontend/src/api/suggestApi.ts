@@ -0,0 +1,17 @@
+export type Suggestion = {
+  type: "PROJECT" | "SKILL";
+  label: string;
+  slug?: string | null;
+  distance: number;
+};
+
+const BASE_URL = import.meta.env.VITE_API_URL ?? "http://localhost:8080";
+
+export async function fetchSuggestions(prefix: string, signal?: AbortSignal): Promise<Suggestion[]> {
+  const url = new URL("/api/suggest", BASE_URL);
+  url.searchParams.set("prefix", prefix);
+
+  const res = await fetch(url.toString(), { signal });
+  if (!res.ok) throw new Error(`Failed to load suggestions (${res.status})`);
+  return res.json();
+}
@@ -1,5 +1,5 @@
 import { Link } from "react-router-dom";
-import type { Project } from "../api/projectsApi";
+import { projectImageSrcSet, projectImageUrl, type Project } from "../api/projectsApi";
 
 type Props = {
   project: Project;
@@ -15,7 +15,9 @@ export default function ProjectCard({ project }: Props) {
       <div className="relative aspect-[16/9] w-full overflow-hidden bg-[var(--bg)]">
         {project.imageUrl ? (
           <img
-            src={project.imageUrl}
+            src={projectImageUrl(project, 480)}
+            srcSet={projectImageSrcSet(project)}
+            sizes="(min-width: 1024px) 33vw, (min-width: 640px) 50vw, 100vw"
             alt={project.title}
             className="h-full w-full object-cover transition duration-300 group-hover:scale-[1.02]"
             loading="lazy"
@@ -43,12 +45,12 @@ export default function ProjectCard({ project }: Props) {
             <div className="flex items-center justify-between gap-2">
               {/* Left side actions */}
               <div className="flex flex-wrap gap-2">
-                {/* <Link
+                <Link
                   to={`/projects/${project.slug}`}
                   className="inline-flex items-center justify-center rounded-xl bg-[var(--red)] px-4 py-2 text-sm font-semibold text-white hover:bg-[var(--red-dark)]"
                 >
                   View project
-                </Link> */}
+                </Link>
 
                 {project.liveUrl ? (
                   <a
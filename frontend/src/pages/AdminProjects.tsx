@@ -1,9 +1,10 @@
 import { useEffect, useMemo, useState } from "react";
 import type { Project } from "../api/projectsApi";
+import { listSkills, type Skill } from "../api/skillsApi";
 import { adminCreateProject, adminDeleteProject, adminListProjects, adminUpdateProject } from "../api/adminProjectsApi";
 import { slugify } from "../utils/slugify";
 import ConfirmModal from "../components/ui/ConfirmModal";
-import { clearAdminCreds } from "../admin/adminAuth";
+import { clearAdminSession } from "../admin/adminAuth";
 
 type FormState = {
   title: string;
@@ -12,6 +13,7 @@ type FormState = {
   imageUrl: string;
   liveUrl: string;
   githubUrl: string;
+  skillIds: number[];
 };
 
 const emptyForm: FormState = {
@@ -21,10 +23,12 @@ const emptyForm: FormState = {
   imageUrl: "",
   liveUrl: "",
   githubUrl: "",
+  skillIds: [],
 };
 
 export default function AdminProjects() {
   const [projects, setProjects] = useState<Project[]>([]);
+  const [skills, setSkills] = useState<Skill[]>([]);
   const [selected, setSelected] = useState<Project | null>(null);
 
   const [form, setForm] = useState<FormState>(emptyForm);
@@ -39,6 +43,7 @@ export default function AdminProjects() {
 
   useEffect(() => {
     load();
+    listSkills().then(setSkills).catch(() => setSkills([]));
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
@@ -78,6 +83,7 @@ export default function AdminProjects() {
       imageUrl: p.imageUrl ?? "",
       liveUrl: p.liveUrl ?? "",
       githubUrl: p.githubUrl ?? "",
+      skillIds: p.skillIds ?? [],
     });
     setErr(null);
     setMsg(null);
@@ -103,6 +109,7 @@ export default function AdminProjects() {
         imageUrl: form.imageUrl.trim() || null,
         liveUrl: form.liveUrl.trim() || null,
         githubUrl: form.githubUrl.trim() || null,
+        skillIds: form.skillIds,
       };
 
       if (isEditing && selected) {
@@ -122,6 +129,13 @@ export default function AdminProjects() {
     }
   }
 
+  function toggleSkill(id: number) {
+    setForm((f) => ({
+      ...f,
+      skillIds: f.skillIds.includes(id) ? f.skillIds.filter((s) => s !== id) : [...f.skillIds, id],
+    }));
+  }
+
   function askDelete(p: Project) {
     setPendingDelete(p);
     setConfirmOpen(true);
@@ -291,6 +305,29 @@ export default function AdminProjects() {
               />
             </div>
 
+            {skills.length > 0 && (
+              <div className="flex flex-wrap gap-2">
+                {skills.map((s) => (
+                  <label
+                    key={s.id}
+                    className={`cursor-pointer rounded-full border px-3 py-1 text-xs ${
+                      form.skillIds.includes(s.id)
+                        ? "border-[var(--red)] text-[var(--red)]"
+                        : "border-[var(--border)] text-[var(--muted)]"
+                    }`}
+                  >
+                    <input
+                      type="checkbox"
+                      className="sr-only"
+                      checked={form.skillIds.includes(s.id)}
+                      onChange={() => toggleSkill(s.id)}
+                    />
+                    {s.name}
+                  </label>
+                ))}
+              </div>
+            )}
+
             <button
               type="button"
               onClick={submit}
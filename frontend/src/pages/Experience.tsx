@@ -2,13 +2,15 @@ import { useEffect, useMemo, useState } from "react";
 import { useTranslation } from "react-i18next";
 
 import type { Skill } from "../api/skillsApi";
-import { listSkills } from "../api/skillsApi";
 
 import type { Education } from "../api/educationApi";
-import { formatEducationStatus, listEducation } from "../api/educationApi";
+import { formatEducationStatus } from "../api/educationApi";
 
 import type { Experience } from "../api/experienceApi";
-import { formatExperienceDates, listExperience } from "../api/experienceApi";
+import { formatExperienceDates } from "../api/experienceApi";
+
+import { fetchPortfolio } from "../api/portfolioApi";
+import { useContentChanges } from "../utils/useContentChanges";
 
 function Pill({ children }: { children: React.ReactNode }) {
   return (
@@ -88,6 +90,7 @@ export default function ExperiencePage() {
 
   const [loading, setLoading] = useState(true);
   const [err, setErr] = useState<string | null>(null);
+  const revision = useContentChanges("EXPERIENCES", "EDUCATIONS", "SKILLS");
 
   useEffect(() => {
     let cancelled = false;
@@ -97,17 +100,14 @@ export default function ExperiencePage() {
       setErr(null);
 
       try {
-        const [sk, edu, exp] = await Promise.all([
-          listSkills(),
-          listEducation(),
-          listExperience(),
-        ]);
+        // One request for all sections instead of three
+        const portfolio = await fetchPortfolio();
 
         if (cancelled) return;
 
-        setSkills(sk);
-        setEducation(edu);
-        setExperience(exp);
+        setSkills(portfolio.skills);
+        setEducation(portfolio.educations);
+        setExperience(portfolio.experiences);
       } catch (e: any) {
         if (!cancelled) setErr(e?.message ?? "Failed to load page data");
       } finally {
@@ -118,7 +118,7 @@ export default function ExperiencePage() {
     return () => {
       cancelled = true;
     };
-  }, []);
+  }, [revision]);
 
   const skillsByCategory = useMemo(() => {
     const grouped: Record<string, Skill[]> = {};
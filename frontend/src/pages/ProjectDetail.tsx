@@ -0,0 +1,98 @@
+import { useEffect, useState } from "react";
+import { Link, useParams } from "react-router-dom";
+import {
+  fetchProject,
+  projectImageSrcSet,
+  projectImageUrl,
+  prerenderedProject,
+  type Project,
+} from "../api/projectsApi";
+import { useContentChanges } from "../utils/useContentChanges";
+
+export default function ProjectDetail() {
+  const { slug = "" } = useParams();
+
+  const [project, setProject] = useState<Project | null>(() => prerenderedProject(slug));
+  const [error, setError] = useState<string | null>(null);
+
+  const revision = useContentChanges("PROJECTS");
+
+  useEffect(() => {
+    // The server-rendered page already carries the current project
+    if (revision === 0 && project?.slug === slug) return;
+
+    let cancelled = false;
+    fetchProject(slug)
+      .then((data) => {
+        if (!cancelled) {
+          setProject(data);
+          setError(null);
+        }
+      })
+      .catch((e: any) => {
+        if (!cancelled) setError(e?.message ?? "Failed to load project");
+      });
+
+    return () => {
+      cancelled = true;
+    };
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [slug, revision]);
+
+  return (
+    <main className="mx-auto max-w-4xl px-4 sm:px-6 lg:px-8 py-10">
+      <Link to="/projects" className="text-sm text-[var(--muted)] hover:text-[var(--red)]">
+        ← Projects
+      </Link>
+
+      {error && (
+        <div className="mt-6 rounded-xl border border-red-300 bg-red-50 p-4 text-sm text-red-700">
+          {error}
+        </div>
+      )}
+
+      {!project && !error && <p className="mt-6 text-[var(--muted)]">Loading project…</p>}
+
+      {project && (
+        <article className="mt-6">
+          <h1 className="text-3xl font-bold tracking-tight text-[var(--text)]">{project.title}</h1>
+
+          {project.imageUrl && (
+            <img
+              src={projectImageUrl(project, 960)}
+              srcSet={projectImageSrcSet(project)}
+              sizes="(min-width: 1024px) 960px, 100vw"
+              alt={project.title}
+              className="mt-6 w-full rounded-2xl border border-[var(--border)]"
+            />
+          )}
+
+          <p className="mt-6 text-[var(--muted)]">{project.description}</p>
+
+          <div className="mt-6 flex flex-wrap gap-2">
+            {project.liveUrl && (
+              <a
+                href={project.liveUrl}
+                target="_blank"
+                rel="noreferrer"
+                className="inline-flex items-center justify-center rounded-xl border border-[var(--border)] bg-[var(--bg)] px-4 py-2 text-sm font-semibold text-[var(--text)] hover:border-[var(--red)] hover:text-[var(--red)]"
+              >
+                Live site
+              </a>
+            )}
+            {project.githubUrl && (
+              <a
+                href={project.githubUrl}
+                target="_blank"
+                rel="noreferrer"
+                className="inline-flex items-center justify-center rounded-xl border border-[var(--border)] bg-[var(--bg)] px-3 py-2 text-sm font-semibold text-[var(--text)] hover:border-[var(--red)] hover:text-[var(--red)]"
+              >
+                GitHub
+              </a>
+            )}
+          </div>
+        </article>
+      )}
+    </main>
+  );
+}
@@ -1,7 +1,10 @@
 import React, { useEffect, useMemo, useState } from "react";
 import { useTranslation } from "react-i18next";
-import { fetchProjects, type Project } from "../api/projectsApi";
+import { useNavigate } from "react-router-dom";
+import { fetchProjectFacets, type Project, type ProjectFacets } from "../api/projectsApi";
+import { fetchSuggestions, type Suggestion } from "../api/suggestApi";
 import ProjectCard from "../components/ProjectCard";
+import { useContentChanges } from "../utils/useContentChanges";
 
 function Pill({ children }: { children: React.ReactNode }) {
   return (
@@ -11,15 +14,51 @@ function Pill({ children }: { children: React.ReactNode }) {
   );
 }
 
+function FilterChip({
+  label,
+  count,
+  active,
+  onClick,
+}: {
+  label: string;
+  count: number;
+  active: boolean;
+  onClick: () => void;
+}) {
+  return (
+    <button
+      type="button"
+      onClick={onClick}
+      aria-pressed={active}
+      className={`rounded-full border px-3 py-1 text-xs transition ${
+        active
+          ? "border-[var(--red)] bg-[var(--red)] text-white"
+          : "border-[var(--border)] bg-[var(--bg)] text-[var(--muted)] hover:border-[var(--red)]"
+      }`}
+    >
+      {label} <span className="opacity-70">{count}</span>
+    </button>
+  );
+}
+
 export default function Projects() {
   const { t } = useTranslation();
+  const navigate = useNavigate();
 
   const [projects, setProjects] = useState<Project[]>([]);
+  const [facets, setFacets] = useState<Omit<ProjectFacets, "projects">>({ skills: [], categories: [] });
+  const [selectedSkills, setSelectedSkills] = useState<string[]>([]);
+  const [category, setCategory] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
 
   // (For the new UI) local search box value
   const [query, setQuery] = useState("");
+  const [suggestions, setSuggestions] = useState<Suggestion[]>([]);
+  const [showSuggestions, setShowSuggestions] = useState(false);
+
+  // Refetch when an admin edit is announced on the change feed
+  const revision = useContentChanges("PROJECTS");
 
   // Debounce search so it doesn’t call API every keystroke
   useEffect(() => {
@@ -27,8 +66,10 @@ export default function Projects() {
       try {
         setLoading(true);
         setError(null);
-        const data = await fetchProjects(query);
-        setProjects(data);
+        // Counts come back with the projects, so the chips always describe the current result
+        const data = await fetchProjectFacets(selectedSkills, category ?? undefined, query);
+        setProjects(data.projects);
+        setFacets({ skills: data.skills, categories: data.categories });
       } catch (e: any) {
         setError(e?.message ?? "Failed to load projects");
       } finally {
@@ -37,8 +78,56 @@ export default function Projects() {
     }, 300);
 
     return () => clearTimeout(handle);
+  }, [query, selectedSkills, category, revision]);
+
+  // Suggestions are answered from memory, so they can follow typing much closer than the search
+  useEffect(() => {
+    const prefix = query.trim();
+    if (!prefix) {
+      setSuggestions([]);
+      return;
+    }
+
+    const controller = new AbortController();
+    const handle = setTimeout(() => {
+      fetchSuggestions(prefix, controller.signal)
+        .then(setSuggestions)
+        .catch(() => {
+          if (!controller.signal.aborted) setSuggestions([]);
+        });
+    }, 100);
+
+    return () => {
+      clearTimeout(handle);
+      controller.abort();
+    };
   }, [query]);
 
+  const pickSuggestion = (s: Suggestion) => {
+    setShowSuggestions(false);
+    if (s.type === "PROJECT" && s.slug) {
+      navigate(`/projects/${s.slug}`);
+    } else {
+      setQuery(s.label);
+    }
+  };
+
+  const toggleSkill = (name: string) =>
+    setSelectedSkills((current) =>
+      current.includes(name) ? current.filter((s) => s !== name) : [...current, name]
+    );
+
+  // Skills that would empty the result are hidden, unless already picked
+  const visibleSkills = useMemo(
+    () =>
+      facets.skills.filter(
+        (s) =>
+          selectedSkills.includes(s.name) ||
+          (s.count > 0 && (!category || s.category.toLowerCase() === category.toLowerCase()))
+      ),
+    [facets.skills, category, selectedSkills]
+  );
+
   const countText = useMemo(() => `${projects.length} projects`, [projects.length]);
 
   return (
@@ -53,16 +142,75 @@ export default function Projects() {
       {/* Search bar (matches your target UI direction) */}
       <div className="mt-6 flex flex-col gap-3 sm:flex-row sm:items-center sm:justify-between">
         <div className="flex items-center gap-2">
-          <input
-            value={query}
-            onChange={(e) => setQuery(e.target.value)}
-            placeholder="Search projects..."
-            className="w-full sm:w-80 rounded-xl border border-[var(--border)] bg-[var(--bg)] px-4 py-2 text-sm text-[var(--text)] outline-none focus:border-[var(--red)]"
-          />
+          <div className="relative w-full sm:w-80">
+            <input
+              value={query}
+              onChange={(e) => {
+                setQuery(e.target.value);
+                setShowSuggestions(true);
+              }}
+              onFocus={() => setShowSuggestions(true)}
+              onBlur={() => setShowSuggestions(false)}
+              onKeyDown={(e) => e.key === "Escape" && setShowSuggestions(false)}
+              placeholder="Search projects..."
+              className="w-full rounded-xl border border-[var(--border)] bg-[var(--bg)] px-4 py-2 text-sm text-[var(--text)] outline-none focus:border-[var(--red)]"
+            />
+            {showSuggestions && suggestions.length > 0 && (
+              <ul className="absolute z-10 mt-1 w-full overflow-hidden rounded-xl border border-[var(--border)] bg-[var(--bg)] shadow-lg">
+                {suggestions.map((s) => (
+                  <li key={`${s.type}-${s.slug ?? s.label}`}>
+                    <button
+                      type="button"
+                      // mousedown fires before the input's blur hides the list
+                      onMouseDown={(e) => {
+                        e.preventDefault();
+                        pickSuggestion(s);
+                      }}
+                      className="flex w-full items-center justify-between gap-2 px-4 py-2 text-left text-sm text-[var(--text)] hover:bg-[var(--border)]"
+                    >
+                      <span className="truncate">{s.label}</span>
+                      <span className="text-xs text-[var(--muted)]">
+                        {s.type === "PROJECT" ? "Project" : "Skill"}
+                      </span>
+                    </button>
+                  </li>
+                ))}
+              </ul>
+            )}
+          </div>
           <Pill>{countText}</Pill>
         </div>
       </div>
 
+      {facets.categories.length > 0 && (
+        <div className="mt-4 flex flex-col gap-2">
+          <div className="flex flex-wrap gap-2">
+            {facets.categories.map((c) => (
+              <FilterChip
+                key={c.name}
+                label={c.name}
+                count={c.count}
+                active={category === c.name}
+                onClick={() => setCategory(category === c.name ? null : c.name)}
+              />
+            ))}
+          </div>
+          {visibleSkills.length > 0 && (
+            <div className="flex flex-wrap gap-2">
+              {visibleSkills.map((s) => (
+                <FilterChip
+                  key={s.id}
+                  label={s.name}
+                  count={s.count}
+                  active={selectedSkills.includes(s.name)}
+                  onClick={() => toggleSkill(s.name)}
+                />
+              ))}
+            </div>
+          )}
+        </div>
+      )}
+
       {loading && (
         <p className="mt-6 text-[var(--muted)]">Loading projects…</p>
       )}
@@ -2,6 +2,7 @@ import { useEffect, useMemo, useState } from "react";
 import { useTranslation } from "react-i18next";
 import SkillBar from "../components/SkillBar";
 import { listSkills, type Skill } from "../api/skillsApi"; // adjust path if needed
+import { useContentChanges } from "../utils/useContentChanges";
 
 const CATEGORY_ORDER: Record<string, number> = {
   FrontEnd: 1,
@@ -15,6 +16,7 @@ export default function Skills() {
   const [skills, setSkills] = useState<Skill[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const revision = useContentChanges("SKILLS");
 
   useEffect(() => {
     const run = async () => {
@@ -31,7 +33,7 @@ export default function Skills() {
     };
 
     run();
-  }, []);
+  }, [revision]);
 
   const sortedSkills = useMemo(() => {
     return [...skills].sort((a, b) => {
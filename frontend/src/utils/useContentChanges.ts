@@ -0,0 +1,14 @@
+import { useEffect, useState } from "react";
+import { subscribeToChanges, type ContentType } from "../api/changesApi";
+
+// Returns a counter that increases whenever one of the types changes; add it to a fetch effect's deps
+export function useContentChanges(...types: ContentType[]): number {
+  const [revision, setRevision] = useState(0);
+  const key = types.join(",");
+
+  useEffect(() => {
+    return subscribeToChanges(key.split(",") as ContentType[], () => setRevision((r) => r + 1));
+  }, [key]);
+
+  return revision;
+}